@@ -0,0 +1,158 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.njol.skript.config.Config;
+import ch.njol.skript.config.Node;
+import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.events.bukkit.ScriptEvent;
+import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.SkriptParser;
+import ch.njol.skript.lang.Statement;
+import ch.njol.skript.lang.Trigger;
+import ch.njol.skript.lang.VariableString;
+import ch.njol.skript.variables.Variables;
+
+/**
+ * Benchmarks parsing statements and executing simple triggers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScriptBenchmark {
+	
+	/**
+	 * The statements to parse, in a separate state so that only {@link ScriptBenchmark#parseStatement(Statements)} runs once per statement.
+	 */
+	@State(Scope.Thread)
+	public static class Statements {
+		
+		@Param({"set {_x} to 5", "add 1 to {_x}", "broadcast \"%{_x}% is %{_y}%\"", "{_x} is greater than 5"})
+		public String statement = "";
+		
+		@Setup
+		public void setup() throws Exception {
+			HeadlessSkript.boot();
+		}
+		
+	}
+	
+	@SuppressWarnings("null")
+	private Trigger loop, broadcast;
+	@SuppressWarnings("null")
+	private VariableString string;
+	@SuppressWarnings("null")
+	private Expression<? extends Number> variable;
+	
+	private final Event event = new ScriptEvent();
+	
+	@Setup
+	public void setup() throws Exception {
+		HeadlessSkript.boot();
+		loop = load("on script load:\n\tset {_x} to 0\n\twhile {_x} < 1000:\n\t\tset {_x} to {_x} + 1");
+		broadcast = load("on script load:\n\tset {_x} to 5\n\tbroadcast \"%{_x}% is %{_x}%\"");
+		check(loop, new ScriptEvent());
+		check(broadcast, new ScriptEvent());
+		
+		final VariableString s = VariableString.newInstance("%{_a}% - %{_b}% - %{_c}%");
+		final Expression<? extends Number> v = new SkriptParser("{_x}").parseExpression(Number.class);
+		if (s == null || v == null)
+			throw new IllegalStateException("could not parse benchmark expressions");
+		string = s;
+		variable = v;
+		Variables.setVariable("_a", "a string", event, true);
+		Variables.setVariable("_b", 42, event, true);
+		Variables.setVariable("_c", 4.2, event, true);
+		Variables.setVariable("_x", 1234L, event, true);
+	}
+	
+	private static Trigger load(final String script) throws Exception {
+		final Config c = new Config(script, "bench.sk", true, false, ":");
+		for (final Node n : c.getMainNode()) {
+			if (n instanceof SectionNode) {
+				final Trigger t = ScriptLoader.loadTrigger((SectionNode) n);
+				if (t != null)
+					return t;
+			}
+		}
+		throw new IllegalStateException("could not load benchmark script: " + script);
+	}
+	
+	/**
+	 * Executes the trigger once, so that a benchmark doesn't silently measure a failing script.
+	 */
+	private static void check(final Trigger t, final Event e) {
+		if (!t.execute(e))
+			throw new IllegalStateException("benchmark trigger failed: " + t);
+	}
+	
+	@Benchmark
+	public Object parseStatement(final Statements s) {
+		return Statement.parse(s.statement, "");
+	}
+	
+	/**
+	 * A numeric loop that runs arithmetic and a comparison on every iteration, executed with a fresh event (and thus fresh local variables) every time.
+	 */
+	@Benchmark
+	public boolean executeLoop() {
+		return loop.execute(new ScriptEvent());
+	}
+	
+	/**
+	 * Broadcasting with no players online only sends the message to the (mocked) console.
+	 */
+	@Benchmark
+	public boolean executeBroadcast() {
+		return broadcast.execute(new ScriptEvent());
+	}
+	
+	@Benchmark
+	public String variableStringToString() {
+		return string.toString(event);
+	}
+	
+	/**
+	 * Reads a local variable as a number, i.e. including the conversion.
+	 */
+	@Benchmark
+	public Object readVariable() {
+		return variable.getSingle(event);
+	}
+	
+}
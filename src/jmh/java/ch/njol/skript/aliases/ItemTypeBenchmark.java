@@ -0,0 +1,126 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.aliases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.njol.skript.HeadlessSkript;
+
+/**
+ * Benchmarks matching item types against single items and full 36 slot player inventories.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ItemTypeBenchmark {
+	
+	private final static int SLOTS = 36;
+	
+	/**
+	 * The number of datas of the tested item type: 1 like 'diamond', 16 like 'wool', 200 like 'any block'.
+	 */
+	@Param({"1", "16", "200"})
+	public int datas;
+	
+	@SuppressWarnings("null")
+	private ItemType type;
+	
+	@SuppressWarnings("null")
+	private ItemStack[] inventory;
+	
+	@SuppressWarnings("null")
+	private ItemStack item;
+	
+	@Setup
+	public void setup() throws Exception {
+		HeadlessSkript.boot();
+		type = new ItemType();
+		if (datas == 16) {
+			for (short d = 0; d < 16; d++)
+				type.add(new ItemData(35, d));
+		} else {
+			for (int id = 1; id <= datas; id++)
+				type.add(new ItemData(id));
+		}
+		type.setAmount(SLOTS * 64); // never satisfied, so that every slot has to be checked
+		
+		// a full inventory of which only a few slots match any of the types
+		inventory = new ItemStack[SLOTS];
+		for (int i = 0; i < SLOTS; i++) {
+			if (i % 9 == 8)
+				inventory[i] = new ItemStack(35, 64, (short) (i % 16));
+			else if (i % 4 != 3)
+				inventory[i] = new ItemStack(256 + i, 1);
+		}
+		item = new ItemStack(35, 1, (short) 14);
+	}
+	
+	@Benchmark
+	public boolean isOfType() {
+		return type.isOfType(item);
+	}
+	
+	@Benchmark
+	public boolean isContainedIn() {
+		return type.isContainedIn(inventory);
+	}
+	
+	/**
+	 * Includes copying the inventory, as removing items modifies it.
+	 */
+	@SuppressWarnings("unchecked")
+	@Benchmark
+	public boolean removeFrom() {
+		final List<ItemStack> copy = new ArrayList<ItemStack>(SLOTS);
+		for (final ItemStack is : inventory)
+			copy.add(is == null ? null : is.clone());
+		return type.removeFrom(copy);
+	}
+	
+	/**
+	 * The same as {@link #removeFrom()} without removing anything to measure the cost of copying the inventory.
+	 */
+	@Benchmark
+	public Object copy() {
+		final List<ItemStack> copy = new ArrayList<ItemStack>(SLOTS);
+		for (final ItemStack is : inventory)
+			copy.add(is == null ? null : is.clone());
+		return copy;
+	}
+	
+}
@@ -0,0 +1,108 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.effects;
+
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.njol.skript.HeadlessSkript;
+import ch.njol.skript.events.bukkit.ScriptEvent;
+import ch.njol.skript.lang.Statement;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.variables.Variables;
+import net.md_5.bungee.api.chat.BaseComponent;
+
+/**
+ * Benchmarks sending a constant and a formatted message to a player. Run with <tt>-Pjmh.args="-prof gc"</tt> to see the allocations per message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageBenchmark {
+	
+	@Param({"Welcome to the server!", "<green>Hello %{_p}%<reset>, you have <gold>%{_x}%<reset> points"})
+	public String message = "";
+	
+	/**
+	 * Receives the components without copying them, so that the benchmark only measures Skript's allocations.
+	 */
+	private final static class Recipient extends Player.Spigot {
+		@Nullable
+		BaseComponent[] last;
+		
+		@Override
+		public void sendMessage(final BaseComponent... components) {
+			last = components;
+		}
+	}
+	
+	private final Recipient recipient = new Recipient();
+	
+	@SuppressWarnings("null")
+	private Statement effect;
+	
+	private final Event event = new ScriptEvent();
+	
+	@Setup
+	public void setup() throws Exception {
+		HeadlessSkript.boot();
+		final Player p = createNiceMock(Player.class);
+		expect(p.getName()).andReturn("Njol").anyTimes();
+		expect(p.getDisplayName()).andReturn("Njol").anyTimes();
+		expect(p.spigot()).andReturn(recipient).anyTimes();
+		replay(p);
+		Variables.setVariable("_p", p, event, true);
+		Variables.setVariable("_x", 42L, event, true);
+		
+		final Statement s = Statement.parse("send \"" + message + "\" to {_p}", "");
+		if (!(s instanceof EffMessage))
+			throw new IllegalStateException("could not parse benchmark statement: " + message);
+		effect = s;
+		if (!TriggerItem.walk(effect, event) || recipient.last == null)
+			throw new IllegalStateException("benchmark message was not sent: " + message);
+	}
+	
+	@Benchmark
+	public boolean send() {
+		return TriggerItem.walk(effect, event);
+	}
+	
+}
@@ -0,0 +1,90 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.registrations;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.njol.skript.HeadlessSkript;
+import ch.njol.skript.entity.XpOrbData;
+import ch.njol.skript.util.Experience;
+import ch.njol.skript.util.Timespan;
+import ch.njol.skript.variables.SerializedVariable;
+
+/**
+ * Benchmarks serialising variables and converting between types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassesBenchmark {
+	
+	private final Object value = new Timespan(123456);
+	private final Experience xp = new Experience(5);
+	
+	@SuppressWarnings("null")
+	private SerializedVariable.Value serialized;
+	
+	@Setup
+	public void setup() throws Exception {
+		HeadlessSkript.boot();
+		final SerializedVariable.Value v = Classes.serialize(value);
+		if (v == null)
+			throw new IllegalStateException(value + " is not serializable");
+		serialized = v;
+	}
+	
+	@Benchmark
+	public Object serialize() {
+		return Classes.serialize(value);
+	}
+	
+	@Benchmark
+	public Object deserialize() {
+		return Classes.deserialize(serialized.type, serialized.data);
+	}
+	
+	@Benchmark
+	public Object convert() {
+		return Converters.convert(xp, XpOrbData.class);
+	}
+	
+	/**
+	 * Converting to a type no converter exists for, which has to check every registered converter.
+	 */
+	@Benchmark
+	public Object convertUnconvertible() {
+		return Converters.convert(xp, Timespan.class);
+	}
+	
+}
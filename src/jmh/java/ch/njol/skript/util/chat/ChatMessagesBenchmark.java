@@ -0,0 +1,73 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.util.chat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.njol.skript.HeadlessSkript;
+import net.md_5.bungee.api.chat.BaseComponent;
+
+/**
+ * Benchmarks parsing chat messages and converting them to Bungee components.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChatMessagesBenchmark {
+	
+	@Param({"Welcome to the server!", "<red>Welcome <bold>Njol<reset> to the <link:https://example.com>server<reset>!", "&aGreen &l&nbold underlined &rand <tooltip:hi>hover me"})
+	public String message = "";
+	
+	@SuppressWarnings("null")
+	private List<MessageComponent> components;
+	
+	@Setup
+	public void setup() throws Exception {
+		HeadlessSkript.boot();
+		components = ChatMessages.parse(message);
+	}
+	
+	@Benchmark
+	public List<MessageComponent> parse() {
+		return ChatMessages.parse(message);
+	}
+	
+	@Benchmark
+	public BaseComponent[] convert() {
+		return BungeeConverter.convert(components);
+	}
+	
+}
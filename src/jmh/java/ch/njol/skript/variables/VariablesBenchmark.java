@@ -0,0 +1,143 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.variables;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.njol.skript.HeadlessSkript;
+import ch.njol.skript.registrations.Classes;
+
+/**
+ * Benchmarks the variable map and the flat file storage's encoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariablesBenchmark {
+	
+	/**
+	 * Number of elements in the list variable <tt>{bench::*}</tt>
+	 */
+	@Param({"10", "1000"})
+	public int size;
+	
+	private final VariablesMap map = new VariablesMap();
+	
+	private final VariableName single = new VariableName("bench::5::x"), nested = new VariableName("bench::a::b::c"), list = new VariableName("bench::*");
+	
+	private String csv = "", hex = "";
+	private byte[] data = new byte[0];
+	
+	private int i = 0;
+	
+	@Setup
+	public void setup() throws Exception {
+		HeadlessSkript.boot();
+		for (int n = 0; n < size; n++)
+			map.setVariable(new VariableName("bench::" + n + "::x"), n);
+		map.setVariable(nested, "nested");
+		
+		final SerializedVariable.Value v = Classes.serialize("a rather long string value");
+		assert v != null;
+		data = v.data;
+		hex = FlatFileStorage.encode(data);
+		csv = "bench::" + size + ", " + v.type + ", " + hex;
+	}
+	
+	@Benchmark
+	public Object getSingle() {
+		return map.getVariable(single);
+	}
+	
+	@Benchmark
+	public void setSingle() {
+		map.setVariable(single, i++);
+	}
+	
+	/**
+	 * Three levels deep, the path is split once and then cached in the name.
+	 */
+	@Benchmark
+	public Object getNested() {
+		return map.getVariable(nested);
+	}
+	
+	@Benchmark
+	public void setNested() {
+		map.setVariable(nested, i++);
+	}
+	
+	/**
+	 * A new name every time, thus splitting the path each call as a variable with expressions in its name would.
+	 */
+	@Benchmark
+	public void setNestedNewName() {
+		map.setVariable(new VariableName("bench::a::b::c"), i++);
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Benchmark
+	public void iterateList(final Blackhole bh) {
+		final Map<String, Object> m = (Map<String, Object>) map.getVariable(list);
+		assert m != null;
+		for (final Map.Entry<String, Object> e : m.entrySet()) {
+			bh.consume(e.getKey());
+			bh.consume(e.getValue());
+		}
+	}
+	
+	@Benchmark
+	public int compareNames() {
+		return VariablesMap.variableNameComparator.compare("player::1234::home", "player::1235::home");
+	}
+	
+	@Benchmark
+	public String[] splitCSV() {
+		return FlatFileStorage.splitCSV(csv);
+	}
+	
+	@Benchmark
+	public String encode() {
+		return FlatFileStorage.encode(data);
+	}
+	
+	@Benchmark
+	public byte[] decode() {
+		return FlatFileStorage.decode(hex);
+	}
+	
+}
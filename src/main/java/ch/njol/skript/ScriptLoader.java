@@ -55,6 +55,7 @@ import ch.njol.skript.command.CommandEvent;
 import ch.njol.skript.command.Commands;
 import ch.njol.skript.command.ScriptCommand;
 import ch.njol.skript.config.Config;
+import ch.njol.skript.config.EnumParser;
 import ch.njol.skript.config.EntryNode;
 import ch.njol.skript.config.Node;
 import ch.njol.skript.config.SectionNode;
@@ -73,25 +74,30 @@ import ch.njol.skript.lang.Statement;
 import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.lang.TriggerItem;
 import ch.njol.skript.lang.TriggerSection;
+import ch.njol.skript.lang.TriggerWatchdog;
 import ch.njol.skript.lang.While;
 import ch.njol.skript.lang.function.Function;
 import ch.njol.skript.lang.function.FunctionEvent;
 import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.lang.function.ScriptFunction;
 import ch.njol.skript.lang.function.Signature;
 import ch.njol.skript.localization.Language;
 import ch.njol.skript.localization.Message;
 import ch.njol.skript.localization.PluralizingArgsMessage;
 import ch.njol.skript.log.CountingLogHandler;
 import ch.njol.skript.log.ErrorDescLogHandler;
+import ch.njol.skript.log.HandlerList;
 import ch.njol.skript.log.LogEntry;
 import ch.njol.skript.log.ParseLogHandler;
 import ch.njol.skript.log.RetainingLogHandler;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.registrations.Converters;
+import ch.njol.skript.util.AsyncEffect;
 import ch.njol.skript.util.Date;
 import ch.njol.skript.util.ExceptionUtils;
 import ch.njol.skript.util.Task;
+import ch.njol.skript.util.Timespan;
 import ch.njol.skript.variables.Variables;
 import ch.njol.util.Callback;
 import ch.njol.util.Kleenean;
@@ -269,6 +275,21 @@ final public class ScriptLoader {
 		}
 	}
 	
+	/**
+	 * Makes the task log to the current thread's log handlers when it is run by the loader thread.
+	 */
+	private static Runnable withLogHandlers(final Runnable task) {
+		final HandlerList handlers = SkriptLogger.copyHandlers();
+		return () -> {
+			final HandlerList old = SkriptLogger.setHandlers(handlers);
+			try {
+				task.run();
+			} finally {
+				SkriptLogger.setHandlers(old);
+			}
+		};
+	}
+	
 	static void loadScripts() {
 		final File scriptsFolder = new File(Skript.getInstance().getDataFolder(), Skript.SCRIPTSFOLDER + File.separator);
 		if (!scriptsFolder.isDirectory())
@@ -314,7 +335,7 @@ final public class ScriptLoader {
 			SkriptEventHandler.registerBukkitEvents();
 		};
 		if (loadAsync)
-			loadQueue.add(task);
+			loadQueue.add(withLogHandlers(task));
 		else
 			task.run();
 	}
@@ -354,7 +375,7 @@ final public class ScriptLoader {
 			SkriptEventHandler.registerBukkitEvents();
 		};
 		if (loadAsync && Bukkit.isPrimaryThread())
-			loadQueue.add(task);
+			loadQueue.add(withLogHandlers(task));
 		else
 			task.run();
 		
@@ -439,6 +460,7 @@ final public class ScriptLoader {
 		List<ScriptCommand> commands = new ArrayList<>();
 		List<Function<?>> functions = new ArrayList<>();
 		List<ParsedEventData> events = new ArrayList<>();
+		TriggerWatchdog.Budget budget = null;
 		
 		// Track what is loaded
 		int numTriggers = 0;
@@ -492,6 +514,32 @@ final public class ScriptLoader {
 							currentOptions.put(((EntryNode) n).getKey(), ((EntryNode) n).getValue());
 						}
 						continue;
+					} else if (event.equalsIgnoreCase("watchdog")) {
+						node.convertToEntries(0);
+						long millis = SkriptConfig.triggerTimeBudget.value().getMilliSeconds();
+						TriggerWatchdog.Action action = SkriptConfig.triggerTimeBudgetAction.value();
+						for (final Node n : node) {
+							if (!(n instanceof EntryNode)) {
+								Skript.error("invalid line in watchdog section");
+								continue;
+							}
+							final String value = ((EntryNode) n).getValue();
+							if ("time budget".equalsIgnoreCase(n.getKey())) {
+								final Timespan t = Timespan.parse(value);
+								if (t == null)
+									Skript.error("'" + value + "' is not a valid time span");
+								else
+									millis = t.getMilliSeconds();
+							} else if ("action".equalsIgnoreCase(n.getKey())) {
+								final TriggerWatchdog.Action a = new EnumParser<TriggerWatchdog.Action>(TriggerWatchdog.Action.class, "watchdog action").convert(value);
+								if (a != null)
+									action = a;
+							} else {
+								Skript.error("invalid entry '" + n.getKey() + "' in watchdog section, only 'time budget' and 'action' are allowed");
+							}
+						}
+						budget = new TriggerWatchdog.Budget(millis, action);
+						continue;
 					} else if (event.equalsIgnoreCase("variables")) {
 						// TODO allow to make these override existing variables
 						node.convertToEntries(0, "=");
@@ -634,6 +682,8 @@ final public class ScriptLoader {
 			SkriptLogger.setNode(null);
 		}
 		
+		final TriggerWatchdog.Budget scriptBudget = budget;
+		
 		// In always sync task, enable stuff
 		Callable<Void> callable = new Callable<Void>() {
 
@@ -648,6 +698,9 @@ final public class ScriptLoader {
 						unloadScript_(file);
 				}
 				
+				if (file != null)
+					TriggerWatchdog.setBudget(file, scriptBudget);
+				
 				// Now, enable everything!
 				for (ScriptCommand command : commands) {
 					assert command != null;
@@ -876,6 +929,7 @@ final public class ScriptLoader {
 			}
 			
 			loadedFiles.remove(script); // We just unloaded it, so...
+			TriggerWatchdog.setBudget(script, null);
 			return info; // Return how much we unloaded
 		}
 		
@@ -921,9 +975,15 @@ final public class ScriptLoader {
 					continue;
 				if (Skript.debug() || n.debug())
 					Skript.debug(indentation + stmt.toString(null, true));
+				stmt.setLineNumber(n.getLine());
 				items.add(stmt);
 				if (stmt instanceof Delay)
 					hasDelayBefore = Kleenean.TRUE;
+				if (stmt instanceof AsyncEffect) { // continues the trigger later like a delay
+					final ScriptFunction<?> function = Functions.currentFunction;
+					if (function != null)
+						function.setHasDelay();
+				}
 			} else if (n instanceof SectionNode) {
 				String name = replaceOptions("" + n.getKey());
 				if (!SkriptParser.validateLine(name))
@@ -952,7 +1012,9 @@ final public class ScriptLoader {
 					if (Skript.debug() || n.debug())
 						Skript.debug(indentation + "loop " + loopedExpr.toString(null, true) + ":");
 					final Kleenean hadDelayBefore = hasDelayBefore;
-					items.add(new Loop(loopedExpr, (SectionNode) n));
+					final Loop loop = new Loop(loopedExpr, (SectionNode) n);
+					loop.setLineNumber(n.getLine());
+					items.add(loop);
 					if (hadDelayBefore != Kleenean.TRUE && hasDelayBefore != Kleenean.FALSE)
 						hasDelayBefore = Kleenean.UNKNOWN;
 				} else if (StringUtils.startsWithIgnoreCase(name, "while ")) {
@@ -963,7 +1025,9 @@ final public class ScriptLoader {
 					if (Skript.debug() || n.debug())
 						Skript.debug(indentation + "while " + c.toString(null, true) + ":");
 					final Kleenean hadDelayBefore = hasDelayBefore;
-					items.add(new While(c, (SectionNode) n));
+					final While w = new While(c, (SectionNode) n);
+					w.setLineNumber(n.getLine());
+					items.add(w);
 					if (hadDelayBefore != Kleenean.TRUE && hasDelayBefore != Kleenean.FALSE)
 						hasDelayBefore = Kleenean.UNKNOWN;
 				} else if (name.equalsIgnoreCase("else")) {
@@ -1002,12 +1066,25 @@ final public class ScriptLoader {
 						Skript.debug(indentation + cond.toString(null, true) + ":");
 					final Kleenean hadDelayBefore = hasDelayBefore;
 					hadDelayBeforeLastIf = hadDelayBefore;
-					items.add(new Conditional(cond, (SectionNode) n));
+					final Conditional conditional = new Conditional(cond, (SectionNode) n);
+					conditional.setLineNumber(n.getLine());
+					items.add(conditional);
 					hasDelayBefore = hadDelayBefore.or(hasDelayBefore.and(Kleenean.UNKNOWN));
 				}
 			}
 		}
 		
+		for (int i = 0; i < items.size(); i++) {
+			final TriggerItem item = items.get(i);
+			if (!(item instanceof Conditional))
+				continue;
+			final TriggerItem folded = ((Conditional) item).fold();
+			if (folded == null)
+				items.remove(i--);
+			else
+				items.set(i, folded);
+		}
+		
 		for (int i = 0; i < items.size() - 1; i++)
 			items.get(i).setNext(items.get(i + 1));
 		
@@ -1389,10 +1389,12 @@ public final class Skript extends JavaPlugin implements Listener {
 	}
 	
 	final static void logEx() {
+		SkriptLogger.flush();
 		SkriptLogger.LOGGER.severe(EXCEPTION_PREFIX);
 	}
 	
 	final static void logEx(final String... lines) {
+		SkriptLogger.flush();
 		for (final String line : lines)
 			SkriptLogger.LOGGER.severe(EXCEPTION_PREFIX + line);
 	}
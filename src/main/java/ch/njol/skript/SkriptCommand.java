@@ -42,6 +42,7 @@ import ch.njol.skript.localization.Language;
 import ch.njol.skript.localization.PluralizingArgsMessage;
 import ch.njol.skript.log.RedirectingLogHandler;
 import ch.njol.skript.log.SkriptLogger;
+import ch.njol.skript.timings.SkriptProfiler;
 import ch.njol.skript.timings.SkriptTimings;
 import ch.njol.skript.util.Color;
 import ch.njol.skript.util.ExceptionUtils;
@@ -103,6 +104,10 @@ public class SkriptCommand implements CommandExecutor {
 			).add(new CommandHelp("timings", Color.DARK_RED)
 					.add("start")
 					.add("stop")
+			).add(new CommandHelp("profile", Color.DARK_RED)
+					.add("start")
+					.add("stop")
+					.add("dump")
 			).add("help");
 	
 	static {
@@ -355,6 +360,25 @@ public class SkriptCommand implements CommandExecutor {
 				} finally {
 					
 				}
+			} else if (args[0].equalsIgnoreCase("profile")) {
+				if (args[1].equalsIgnoreCase("start")) {
+					if (SkriptProfiler.enabled()) {
+						info(sender, "profile.already running");
+					} else {
+						SkriptProfiler.start();
+						info(sender, "profile.started");
+					}
+				} else if (args[1].equalsIgnoreCase("stop")) {
+					SkriptProfiler.stop();
+					info(sender, "profile.stopped");
+				} else if (args[1].equalsIgnoreCase("dump")) {
+					try {
+						final File report = SkriptProfiler.dump(new File(Skript.getInstance().getDataFolder(), "profiles"));
+						info(sender, "profile.dumped", report.getName());
+					} catch (final IOException e) {
+						error(sender, "profile.io error", ExceptionUtils.toString(e));
+					}
+				}
 			} else if (args[0].equalsIgnoreCase("help")) {
 				skriptCommandHelp.showHelp(sender);
 			} else if (args[0].equalsIgnoreCase("gen-docs")) {
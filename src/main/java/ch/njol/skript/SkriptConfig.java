@@ -38,10 +38,15 @@ import ch.njol.skript.config.EnumParser;
 import ch.njol.skript.config.Option;
 import ch.njol.skript.config.OptionSection;
 import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.lang.TriggerWatchdog;
 import ch.njol.skript.localization.Language;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.log.Verbosity;
+import ch.njol.skript.metrics.MetricsRegistry;
+import ch.njol.skript.metrics.PrometheusFileExporter;
 import ch.njol.skript.timings.SkriptTimings;
+import ch.njol.skript.util.AsyncEffectExecutor;
+import ch.njol.skript.util.AsyncEffectExecutor.OverflowPolicy;
 import ch.njol.skript.util.FileUtils;
 import ch.njol.skript.util.Task;
 import ch.njol.skript.util.Timespan;
@@ -242,6 +247,32 @@ public abstract class SkriptConfig {
 	public final static Option<Boolean> allowUnsafePlatforms = new Option<Boolean>("allow unsafe platforms", false)
 			.optional(true);
 	
+	public final static Option<Integer> asyncEffectThreads = new Option<Integer>("async effect threads", 4)
+			.optional(true);
+	public final static Option<Integer> asyncEffectQueueSize = new Option<Integer>("async effect queue size", 1000)
+			.optional(true);
+	public final static Option<OverflowPolicy> asyncEffectOverflow = new Option<OverflowPolicy>("async effect overflow", OverflowPolicy.RUN, new EnumParser<OverflowPolicy>(OverflowPolicy.class, "async effect overflow"))
+			.optional(true);
+	
+	public final static Option<Timespan> triggerTimeBudget = new Option<Timespan>("trigger time budget", new Timespan(0))
+			.optional(true);
+	public final static Option<TriggerWatchdog.Action> triggerTimeBudgetAction = new Option<TriggerWatchdog.Action>("trigger time budget action", TriggerWatchdog.Action.WARN, new EnumParser<TriggerWatchdog.Action>(TriggerWatchdog.Action.class, "trigger time budget action"))
+			.optional(true);
+	
+	public final static Option<Timespan> metricsExportInterval = new Option<Timespan>("metrics export interval", new Timespan(0))
+			.optional(true);
+	
+	public final static Option<Boolean> asyncLogging = new Option<Boolean>("asynchronous logging", true)
+			.optional(true);
+	public final static Option<Integer> logBufferSize = new Option<Integer>("log buffer size", 4096)
+			.optional(true);
+	
+	public final static Option<Integer> gradualChangeBlocksPerTick = new Option<Integer>("gradual change blocks per tick", 10000)
+			.optional(true);
+	
+	public final static Option<Boolean> cacheEntityQueries = new Option<Boolean>("cache entity queries", false)
+			.optional(true);
+	
 	/**
 	 * This should only be used in special cases
 	 */
@@ -341,6 +372,13 @@ public abstract class SkriptConfig {
 			}
 			
 			mc.load(SkriptConfig.class);
+			AsyncEffectExecutor.configure(Math.max(1, asyncEffectThreads.value()), Math.max(1, asyncEffectQueueSize.value()), asyncEffectOverflow.value());
+			TriggerWatchdog.setDefaultBudget(new TriggerWatchdog.Budget(triggerTimeBudget.value().getMilliSeconds(), triggerTimeBudgetAction.value()));
+			final long metricsInterval = metricsExportInterval.value().getTicks_i();
+			if (metricsInterval > 0)
+				MetricsRegistry.addExporter(new PrometheusFileExporter(new File(Skript.getInstance().getDataFolder(), "metrics.prom")));
+			MetricsRegistry.setExportInterval(metricsInterval);
+			SkriptLogger.setAsynchronous(asyncLogging.value(), Math.max(16, logBufferSize.value()));
 			
 //			if (!keepConfigsLoaded.value())
 //				mainConfig = null;
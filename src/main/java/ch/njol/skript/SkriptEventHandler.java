@@ -45,6 +45,8 @@ import ch.njol.skript.command.Commands;
 import ch.njol.skript.lang.SelfRegisteringSkriptEvent;
 import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.metrics.Counter;
+import ch.njol.skript.metrics.MetricsRegistry;
 import ch.njol.skript.timings.SkriptTimings;
 
 /**
@@ -57,7 +59,7 @@ public abstract class SkriptEventHandler {
 	
 	private final static List<Trigger> selfRegisteredTriggers = new ArrayList<>();
 	
-	private final static Iterator<Trigger> getTriggers(final Class<? extends Event> event) {
+	final static Iterator<Trigger> getTriggers(final Class<? extends Event> event) {
 		return new Iterator<Trigger>() {
 			@Nullable
 			private Class<?> e = event;
@@ -110,6 +112,15 @@ public abstract class SkriptEventHandler {
 		}
 	};
 	
+	private final static ClassValue<Counter> eventCounters = new ClassValue<Counter>() {
+		@Override
+		protected Counter computeValue(final @Nullable Class<?> c) {
+			assert c != null;
+			return MetricsRegistry.counter("skript_events_total", "Events passed to triggers", "event", "" + c.getName());
+		}
+	};
+	private final static Counter triggerExecutions = MetricsRegistry.counter("skript_trigger_executions_total", "Triggers executed");
+	
 	static void check(final Event e) {
 		Iterator<Trigger> ts = getTriggers(e.getClass());
 		if (!ts.hasNext())
@@ -140,11 +151,14 @@ public abstract class SkriptEventHandler {
 			return;
 		}
 		
+		eventCounters.get(e.getClass()).increment();
+		
 		while (ts.hasNext()) {
 			final Trigger t = ts.next();
 			if (!t.getEvent().check(e))
 				continue;
 			
+			triggerExecutions.increment();
 			logTriggerStart(t);
 			Object timing = SkriptTimings.start(t.getDebugLabel());
 			
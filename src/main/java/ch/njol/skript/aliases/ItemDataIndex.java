@@ -0,0 +1,107 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.aliases;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps type ids to the positions of the {@link ItemData}s of an {@link ItemType} that can match them, so that aliases with many datas (e.g. 'any block') don't have
+ * to test every single one of them. Data values are not indexed and still have to be checked on the ItemData itself.
+ * <p>
+ * An index is immutable and has to be recreated whenever the item type's datas change.
+ */
+final class ItemDataIndex {
+	
+	/**
+	 * Item types with fewer datas than this are simply iterated.
+	 */
+	final static int MIN_SIZE = 5;
+	
+	/**
+	 * Sorted distinct type ids
+	 */
+	private final int[] ids;
+	
+	/**
+	 * Ascending positions of the datas matching the respective id in {@link #ids}, including the wildcards
+	 */
+	private final int[][] positions;
+	
+	/**
+	 * Ascending positions of the datas with a type id of -1
+	 */
+	private final int[] wildcards;
+	
+	ItemDataIndex(final List<ItemData> types) {
+		final int size = types.size();
+		int[] ids = new int[size];
+		int n = 0, w = 0;
+		for (int i = 0; i < size; i++) {
+			final int id = types.get(i).typeid;
+			if (id == -1)
+				w++;
+			else
+				ids[n++] = id;
+		}
+		Arrays.sort(ids, 0, n);
+		int u = 0;
+		for (int i = 0; i < n; i++) {
+			if (u == 0 || ids[u - 1] != ids[i])
+				ids[u++] = ids[i];
+		}
+		this.ids = ids = Arrays.copyOf(ids, u);
+		
+		final int[] counts = new int[u];
+		for (int i = 0; i < size; i++) {
+			final int id = types.get(i).typeid;
+			if (id != -1)
+				counts[Arrays.binarySearch(ids, id)]++;
+		}
+		positions = new int[u][];
+		for (int k = 0; k < u; k++) {
+			positions[k] = new int[counts[k] + w];
+			counts[k] = 0;
+		}
+		wildcards = new int[w];
+		w = 0;
+		for (int i = 0; i < size; i++) {
+			final int id = types.get(i).typeid;
+			if (id == -1) {
+				wildcards[w++] = i;
+				for (int k = 0; k < u; k++)
+					positions[k][counts[k]++] = i;
+			} else {
+				final int k = Arrays.binarySearch(ids, id);
+				positions[k][counts[k]++] = i;
+			}
+		}
+	}
+	
+	/**
+	 * @param id A type id
+	 * @return The ascending positions of all datas whose type id is the given one or -1. Must not be modified.
+	 */
+	int[] get(final int id) {
+		final int k = Arrays.binarySearch(ids, id);
+		return k < 0 ? wildcards : positions[k];
+	}
+	
+}
@@ -110,6 +110,12 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	 */
 	private boolean ignoreMeta = false;
 	
+	/**
+	 * Lazily created lookup of {@link #types} by type id, cleared whenever the types change.
+	 */
+	@Nullable
+	private transient ItemDataIndex index = null;
+	
 	void setItem(final @Nullable ItemType item) {
 		if (equals(item)) { // can happen if someone defines a 'x' and 'x item/block' alias that have the same value, e.g. 'dirt' and 'dirt block'
 			this.item = null;
@@ -196,6 +202,19 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 		item = block = null;
 	}
 	
+	/**
+	 * @return The index of this type's datas, or null if there are too few of them for an index to be worth it
+	 */
+	@Nullable
+	private ItemDataIndex getIndex() {
+		if (types.size() < ItemDataIndex.MIN_SIZE)
+			return null;
+		ItemDataIndex i = index;
+		if (i == null)
+			index = i = new ItemDataIndex(types);
+		return i;
+	}
+	
 	/**
 	 * @return amount or 1 if amount == -1
 	 */
@@ -308,8 +327,16 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	}
 	
 	public boolean isOfType(final int id, final short data) {
-		for (final ItemData type : types) {
-			if (type.isOfType(id, data))
+		final ItemDataIndex index = getIndex();
+		if (index == null) {
+			for (final ItemData type : types) {
+				if (type.isOfType(id, data))
+					return true;
+			}
+			return false;
+		}
+		for (final int i : index.get(id)) {
+			if (types.get(i).isOfType(id, data))
 				return true;
 		}
 		return false;
@@ -445,6 +472,7 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	private void add_(final @Nullable ItemData type) {
 		if (type != null) {
 			types.add(type);
+			index = null;
 			numItems += type.numItems();
 			modified();
 		}
@@ -457,11 +485,13 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 				numItems += type.numItems();
 			}
 		}
+		index = null;
 		modified();
 	}
 	
 	public void remove(final ItemData type) {
 		if (types.remove(type)) {
+			index = null;
 			numItems -= type.numItems();
 			modified();
 		}
@@ -469,6 +499,7 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	
 	void remove(final int index) {
 		final ItemData type = types.remove(index);
+		this.index = null;
 		numItems -= type.numItems();
 		modified();
 	}
@@ -735,42 +766,42 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 		return isContainedIn((Iterable<ItemStack>) invi);
 	}
 	
+	/**
+	 * Checks all items in a single pass, i.e. each item is only compared to the datas that can match its type.
+	 */
 	public boolean isContainedIn(final Iterable<ItemStack> items) {
-		for (final ItemData d : types) {
-			int found = 0;
-			for (final ItemStack i : items) {
-				if (d.isOfType(i) && hasMeta(i)) {
-					found += i == null ? 1 : i.getAmount();
-					if (found >= getAmount()) {
-						if (!all)
-							return true;
-						break;
-					}
-				}
+		final int size = types.size();
+		final int amount = getAmount();
+		final ItemDataIndex index = getIndex();
+		final int[] found = new int[size];
+		for (final ItemStack i : items) {
+			final int[] candidates = index == null ? null : index.get(i == null ? 0 : i.getTypeId());
+			final int n = candidates == null ? size : candidates.length;
+			int meta = -1; // only check the meta of items that match any data, and only once
+			for (int c = 0; c < n; c++) {
+				final int d = candidates == null ? c : candidates[c];
+				if (!types.get(d).isOfType(i))
+					continue;
+				if (meta == -1)
+					meta = hasMeta(i) ? 1 : 0;
+				if (meta == 0)
+					break;
+				found[d] += i == null ? 1 : i.getAmount();
+				if (!all && found[d] >= amount)
+					return true;
 			}
-			if (all && found < getAmount())
+		}
+		if (!all)
+			return false;
+		for (final int f : found) {
+			if (f < amount)
 				return false;
 		}
-		return all;
+		return true;
 	}
 	
 	public boolean isContainedIn(final ItemStack[] list) {
-		for (final ItemData d : types) {
-			int found = 0;
-			for (final ItemStack i : list) {
-				if (d.isOfType(i) && hasMeta(i)) {
-					found += i == null ? 1 : i.getAmount();
-					if (found >= getAmount()) {
-						if (!all)
-							return true;
-						break;
-					}
-				}
-			}
-			if (all && found < getAmount())
-				return false;
-		}
-		return all;
+		return isContainedIn(Arrays.asList(list));
 	}
 	
 	public boolean removeAll(final Inventory invi) {
@@ -823,37 +854,71 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	 * @return Whether this whole item type could be removed (i.e. returns false if the lists didn't contain this item type completely)
 	 */
 	public boolean removeFrom(final List<ItemStack>... lists) {
+		final int size = types.size();
+		final ItemDataIndex index = getIndex();
+		
+		// find all slots each data may be removed from in a single pass, as (list << 32 | slot) in the order of the lists and slots
+		final long[][] slots = new long[size][];
+		final int[] numSlots = new int[size];
+		for (int l = 0; l < lists.length; l++) {
+			final List<ItemStack> list = lists[l];
+			if (list == null)
+				continue;
+			assert list instanceof RandomAccess;
+			for (int i = 0; i < list.size(); i++) {
+				final ItemStack is = list.get(i);
+				if (is == null)
+					continue;
+				final int[] candidates = index == null ? null : index.get(is.getTypeId());
+				final int n = candidates == null ? size : candidates.length;
+				int meta = -1;
+				for (int c = 0; c < n; c++) {
+					final int d = candidates == null ? c : candidates[c];
+					if (!types.get(d).isOfType(is))
+						continue;
+					if (meta == -1)
+						meta = hasMeta(is) ? 1 : 0;
+					if (meta == 0)
+						break;
+					long[] s = slots[d];
+					if (s == null)
+						slots[d] = s = new long[4];
+					else if (numSlots[d] == s.length)
+						slots[d] = s = Arrays.copyOf(s, s.length * 2);
+					s[numSlots[d]++] = (long) l << 32 | i;
+				}
+			}
+		}
+		
 		int removed = 0;
 		boolean ok = true;
 		
-		for (final ItemData d : types) {
+		for (int d = 0; d < size; d++) {
 			if (all)
 				removed = 0;
-			for (final List<ItemStack> list : lists) {
-				if (list == null)
+			final long[] s = slots[d];
+			for (int c = 0; c < numSlots[d]; c++) {
+				final List<ItemStack> list = lists[(int) (s[c] >>> 32)];
+				final int i = (int) s[c];
+				final ItemStack is = list.get(i);
+				if (is == null) // removed by a previous data
+					continue;
+				if (all && amount == -1) {
+					list.set(i, null);
+					removed = 1;
 					continue;
-				assert list instanceof RandomAccess;
-				for (int i = 0; i < list.size(); i++) {
-					final ItemStack is = list.get(i);
-					if (is != null && d.isOfType(is) && hasMeta(is)) {
-						if (all && amount == -1) {
-							list.set(i, null);
-							removed = 1;
-							continue;
-						}
-						final int toRemove = Math.min(is.getAmount(), getAmount() - removed);
-						removed += toRemove;
-						if (toRemove == is.getAmount()) {
-							list.set(i, null);
-						} else {
-							is.setAmount(is.getAmount() - toRemove);
-						}
-						if (removed == getAmount()) {
-							if (!all)
-								return true;
-							break;
-						}
-					}
+				}
+				final int toRemove = Math.min(is.getAmount(), getAmount() - removed);
+				removed += toRemove;
+				if (toRemove == is.getAmount()) {
+					list.set(i, null);
+				} else {
+					is.setAmount(is.getAmount() - toRemove);
+				}
+				if (removed == getAmount()) {
+					if (!all)
+						return true;
+					break;
 				}
 			}
 			if (all)
@@ -61,6 +61,7 @@ import ch.njol.skript.SkriptConfig;
 import ch.njol.skript.aliases.ItemType;
 import ch.njol.skript.classes.ClassInfo;
 import ch.njol.skript.classes.Comparator;
+import ch.njol.skript.classes.Comparator.Relation;
 import ch.njol.skript.entity.BoatData;
 import ch.njol.skript.entity.EntityData;
 import ch.njol.skript.registrations.Comparators;
@@ -82,33 +83,40 @@ public class DefaultComparators {
 	
 	public DefaultComparators() {}
 	
+	/**
+	 * Compares two numbers the same way as the {@link #numberComparator} compares two non-{@link Long} numbers.
+	 */
+	public final static Relation compare(final double d1, final double d2) {
+		if (Double.isNaN(d1) || Double.isNaN(d2)) {
+			return Relation.SMALLER;
+		} else if (Double.isInfinite(d1) || Double.isInfinite(d2)) {
+			return d1 > d2 ? Relation.GREATER : d1 < d2 ? Relation.SMALLER : Relation.EQUAL;
+		} else {
+			final double diff = d1 - d2;
+			if (Math.abs(diff) < Skript.EPSILON)
+				return Relation.EQUAL;
+			return Relation.get(diff);
+		}
+	}
+	
+	public final static Comparator<Number, Number> numberComparator = new Comparator<Number, Number>() {
+		@Override
+		public Relation compare(final Number n1, final Number n2) {
+			if (n1 instanceof Long && n2 instanceof Long)
+				return Relation.get(n1.longValue() - n2.longValue());
+			return DefaultComparators.compare(n1.doubleValue(), n2.doubleValue());
+		}
+		
+		@Override
+		public boolean supportsOrdering() {
+			return true;
+		}
+	};
+	
 	static {
 		
 		// Number - Number
-		Comparators.registerComparator(Number.class, Number.class, new Comparator<Number, Number>() {
-			@Override
-			public Relation compare(final Number n1, final Number n2) {
-				if (n1 instanceof Long && n2 instanceof Long)
-					return Relation.get(n1.longValue() - n2.longValue());
-				Double d1 = n1.doubleValue(),
-					   d2 = n2.doubleValue();
-				if (d1.isNaN() || d2.isNaN()) {
-					return Relation.SMALLER;
-				} else if (d1.isInfinite() || d2.isInfinite()) {
-					return d1 > d2 ? Relation.GREATER : d1 < d2 ? Relation.SMALLER : Relation.EQUAL;
-				} else {
-					final double diff = d1 - d2;
-					if (Math.abs(diff) < Skript.EPSILON)
-						return Relation.EQUAL;
-					return Relation.get(diff);
-				}
-			}
-			
-			@Override
-			public boolean supportsOrdering() {
-				return true;
-			}
-		});
+		Comparators.registerComparator(Number.class, Number.class, numberComparator);
 		
 		// Slot - Slot
 		Comparators.registerComparator(Slot.class, Slot.class, new Comparator<Slot, Slot>() {
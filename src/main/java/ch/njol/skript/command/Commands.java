@@ -278,10 +278,12 @@ public abstract class Commands {
 						Skript.info(sender.getName() + " issued effect command: " + command);
 					e.run(new EffectCommandEvent(sender, command));
 				} else {
-					if (sender == Bukkit.getConsoleSender()) // log as SEVERE instead of INFO like printErrors below
+					if (sender == Bukkit.getConsoleSender()) { // log as SEVERE instead of INFO like printErrors below
+						SkriptLogger.flush();
 						SkriptLogger.LOGGER.severe("Error in: " + ChatColor.stripColor(command));
-					else
+					} else {
 						sender.sendMessage(ChatColor.RED + "Error in: " + ChatColor.GRAY + ChatColor.stripColor(command));
+					}
 					log.printErrors(sender, "(No specific information is available)");
 				}
 			} finally {
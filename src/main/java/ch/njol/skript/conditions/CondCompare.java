@@ -28,6 +28,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import ch.njol.skript.Skript;
 import ch.njol.skript.classes.Comparator;
 import ch.njol.skript.classes.Comparator.Relation;
+import ch.njol.skript.classes.data.DefaultComparators;
 import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Examples;
 import ch.njol.skript.doc.Name;
@@ -36,9 +37,12 @@ import ch.njol.skript.entity.EntityData;
 import ch.njol.skript.lang.Condition;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionList;
+import ch.njol.skript.lang.Literal;
+import ch.njol.skript.lang.NumberExpression;
 import ch.njol.skript.lang.ParseContext;
 import ch.njol.skript.lang.SkriptParser;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.UnparsedLiteral;
 import ch.njol.skript.log.ErrorQuality;
 import ch.njol.skript.log.RetainingLogHandler;
 import ch.njol.skript.log.SkriptLogger;
@@ -109,6 +113,12 @@ public class CondCompare extends Condition {
 	@Nullable
 	Comparator comp;
 	
+	/**
+	 * Set if two single numbers are compared with the default number comparator, which can then be done without boxing.
+	 */
+	@Nullable
+	private NumberExpression firstNumber, secondNumber;
+	
 	@SuppressWarnings("null")
 	@Override
 	public boolean init(final Expression<?>[] vars, final int matchedPattern, final Kleenean isDelayed, final ParseResult parser) {
@@ -153,6 +163,11 @@ public class CondCompare extends Condition {
 			}
 		}
 		
+		if (third == null && comp == DefaultComparators.numberComparator) {
+			firstNumber = NumberExpression.of(first);
+			secondNumber = NumberExpression.of(second);
+		}
+		
 		return true;
 	}
 	
@@ -254,6 +269,19 @@ public class CondCompare extends Condition {
 	 */
 	@Override
 	public boolean check(final Event e) {
+		final NumberExpression n1 = firstNumber, n2 = secondNumber;
+		if (n1 != null && n2 != null) {
+			// missing values (and NaN) are rare, so these are just checked again using the general code below
+			if (n1.isIntegral() && n2.isIntegral()) {
+				final long l1 = n1.getLong(e, Long.MIN_VALUE), l2 = n2.getLong(e, Long.MIN_VALUE);
+				if (l1 != Long.MIN_VALUE && l2 != Long.MIN_VALUE)
+					return isNegated() ^ relation.is(Relation.get(l1 - l2));
+			} else {
+				final double d1 = n1.getDouble(e, Double.NaN), d2 = n2.getDouble(e, Double.NaN);
+				if (!Double.isNaN(d1) && !Double.isNaN(d2))
+					return isNegated() ^ relation.is(DefaultComparators.compare(d1, d2));
+			}
+		}
 		final Expression<?> third = this.third;
 		return first.check(e, new Checker<Object>() {
 			@Override
@@ -277,6 +305,18 @@ public class CondCompare extends Condition {
 		});
 	}
 	
+	@SuppressWarnings("null")
+	@Override
+	public Kleenean getConstantValue() {
+		if (!isConstant(first) || !isConstant(second) || third != null && !isConstant(third))
+			return Kleenean.UNKNOWN;
+		return Kleenean.get(check(null));
+	}
+	
+	private final static boolean isConstant(final @Nullable Expression<?> e) {
+		return e instanceof Literal && !(e instanceof UnparsedLiteral);
+	}
+	
 	@Override
 	public String toString(final @Nullable Event e, final boolean debug) {
 		String s;
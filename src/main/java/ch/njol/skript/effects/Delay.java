@@ -23,7 +23,6 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.WeakHashMap;
 
-import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -39,7 +38,10 @@ import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.timings.SkriptTimings;
 import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.lang.function.ScriptFunction;
 import ch.njol.skript.util.Timespan;
+import ch.njol.skript.util.TimingWheel;
 import ch.njol.util.Kleenean;
 import edu.umd.cs.findbugs.ba.bcp.New;
 
@@ -64,6 +66,9 @@ public class Delay extends Effect {
 	@Override
 	public boolean init(final Expression<?>[] exprs, final int matchedPattern, final Kleenean isDelayed, final ParseResult parseResult) {
 		duration = (Expression<Timespan>) exprs[0];
+		final ScriptFunction<?> function = Functions.currentFunction;
+		if (function != null)
+			function.setHasDelay();
 		if (duration instanceof Literal) { // If we can, do sanity check for delays
 			long millis = ((Literal<Timespan>) duration).getSingle().getMilliSeconds();
 			if (millis < 50) {
@@ -84,7 +89,7 @@ public class Delay extends Effect {
 			final Timespan d = duration.getSingle(e);
 			if (d == null)
 				return null;
-			Bukkit.getScheduler().scheduleSyncDelayedTask(Skript.getInstance(), new Runnable() {
+			TimingWheel.getInstance().schedule(new Runnable() {
 				@Override
 				public void run() {
 					if (Skript.debug())
@@ -102,7 +107,7 @@ public class Delay extends Effect {
 					
 					SkriptTimings.stop(timing); // Stop timing if it was even started
 				}
-			}, d.getTicks_i() < 1 ? 1 : d.getTicks_i()); // Minimum delay is one tick, less than it is useless!
+			}, d.getTicks_i()); // Minimum delay is one tick, less than it is useless!
 		}
 		return null;
 	}
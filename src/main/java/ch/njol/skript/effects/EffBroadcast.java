@@ -19,6 +19,10 @@
  */
 package ch.njol.skript.effects;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
@@ -64,21 +68,27 @@ public class EffBroadcast extends Effect {
 	
 	@Override
 	public void execute(final Event e) {
-		for (final String m : messages.getArray(e)) {
-			final Expression<World> worlds = this.worlds;
-			if (worlds == null) {
-				// not Bukkit.broadcastMessage to ignore permissions
-				for (final Player p : PlayerUtils.getOnlinePlayers()) {
-					p.sendMessage(m);
-				}
-				Bukkit.getConsoleSender().sendMessage(m);
-			} else {
-				for (final World w : worlds.getArray(e)) {
-					for (final Player p : w.getPlayers()) {
-						p.sendMessage(m);
-					}
-				}
+		final String[] messages = this.messages.getArray(e);
+		if (messages.length == 0)
+			return;
+		// The recipients are collected once and then receive all messages
+		final Expression<World> worlds = this.worlds;
+		final Collection<? extends Player> recipients;
+		if (worlds == null) {
+			// not Bukkit.broadcastMessage to ignore permissions
+			recipients = PlayerUtils.getOnlinePlayers();
+		} else {
+			final List<Player> players = new ArrayList<>();
+			for (final World w : worlds.getArray(e))
+				players.addAll(w.getPlayers());
+			recipients = players;
+		}
+		for (final String m : messages) {
+			for (final Player p : recipients) {
+				p.sendMessage(m);
 			}
+			if (worlds == null)
+				Bukkit.getConsoleSender().sendMessage(m);
 		}
 	}
 	
@@ -20,15 +20,19 @@
 package ch.njol.skript.effects;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.logging.Level;
 
+import org.bukkit.block.Block;
 import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
 
+import ch.njol.skript.ScriptLoader;
 import ch.njol.skript.Skript;
 import ch.njol.skript.SkriptConfig;
 import ch.njol.skript.classes.Changer;
 import ch.njol.skript.classes.Changer.ChangeMode;
+import ch.njol.skript.classes.Changer.ChangerUtils;
 import ch.njol.skript.classes.ClassInfo;
 import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Examples;
@@ -38,13 +42,18 @@ import ch.njol.skript.lang.Effect;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.SkriptParser;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.TriggerItem;
 import ch.njol.skript.lang.Variable;
+import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.lang.function.ScriptFunction;
+import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.log.CountingLogHandler;
 import ch.njol.skript.log.ErrorQuality;
 import ch.njol.skript.log.ParseLogHandler;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.util.Patterns;
+import ch.njol.skript.util.TimingWheel;
 import ch.njol.skript.util.Utils;
 import ch.njol.util.Kleenean;
 
@@ -52,7 +61,9 @@ import ch.njol.util.Kleenean;
  * @author Peter Güttinger
  */
 @Name("Change: Set/Add/Remove/Delete/Reset")
-@Description("A very general effect that can change many <a href='../expressions'>expressions</a>. Many expressions can only be set and/or deleted, while some can have things added to or removed from them.")
+@Description({"A very general effect that can change many <a href='../expressions'>expressions</a>. Many expressions can only be set and/or deleted, while some can have things added to or removed from them.",
+		"Many blocks can be set, deleted or reset <i>gradually</i>, i.e. spread over several ticks instead of all at once, which keeps large changes from lagging the server. " +
+				"The trigger continues once all blocks have been changed, like after a <a href='#delay'>delay</a>."})
 @Examples({"# set:",
 		"Set the player's display name to \"<red>%name of player%\"",
 		"set the block above the victim to lava",
@@ -73,7 +84,9 @@ import ch.njol.util.Kleenean;
 		"delete {variable}",
 		"# reset:",
 		"reset walk speed of player",
-		"reset chunk at the targeted block"})
+		"reset chunk at the targeted block",
+		"# gradually:",
+		"set the blocks in radius 50 around the player to air gradually"})
 @Since("1.0 (set, add, remove, delete), 2.0 (remove all)")
 public class EffChange extends Effect {
 	private static Patterns<ChangeMode> patterns = new Patterns<>(new Object[][] {
@@ -81,16 +94,16 @@ public class EffChange extends Effect {
 			{"increase %~objects% by %objects%", ChangeMode.ADD},
 			{"give %~objects% %objects%", ChangeMode.ADD},
 			
-			{"set %~objects% to %objects%", ChangeMode.SET},
+			{"set %~objects% to %objects% [(1¦gradually|1¦over time)]", ChangeMode.SET},
 			
 			{"remove (all|every) %objects% from %~objects%", ChangeMode.REMOVE_ALL},
 			
 			{"(remove|subtract) %objects% from %~objects%", ChangeMode.REMOVE},
 			{"reduce %~objects% by %objects%", ChangeMode.REMOVE},
 			
-			{"(delete|clear) %~objects%", ChangeMode.DELETE},
+			{"(delete|clear) %~objects% [(1¦gradually|1¦over time)]", ChangeMode.DELETE},
 			
-			{"reset %~objects%", ChangeMode.RESET}
+			{"reset %~objects% [(1¦gradually|1¦over time)]", ChangeMode.RESET}
 	});
 	
 	static {
@@ -107,6 +120,11 @@ public class EffChange extends Effect {
 	
 	private boolean single;
 	
+	/**
+	 * Whether the changed blocks are changed over several ticks
+	 */
+	private boolean gradual;
+	
 //	private Changer<?, ?> c = null;
 	
 	@SuppressWarnings({"unchecked", "null"})
@@ -259,9 +277,104 @@ public class EffChange extends Effect {
 					Skript.warning(ci.getName().withIndefiniteArticle() + " cannot be saved, i.e. the contents of the variable " + changed + " will be lost when the server stops.");
 			}
 		}
+		
+		gradual = parser.mark == 1;
+		if (gradual) {
+			if (changed.isSingle() || !Block.class.isAssignableFrom(changed.getReturnType()) || !usesDefaultChange(changed)) {
+				Skript.error("Only multiple blocks can be changed gradually, but not " + changed, ErrorQuality.SEMANTIC_ERROR);
+				return false;
+			}
+			final ScriptFunction<?> function = Functions.currentFunction;
+			if (function != null)
+				function.setHasDelay();
+			ScriptLoader.hasDelayBefore = Kleenean.TRUE;
+		}
 		return true;
 	}
 	
+	/**
+	 * @return Whether the expression is changed by its type's changer, i.e. whether changing parts of it at a time is the same as changing
+	 *         it at once.
+	 */
+	private static boolean usesDefaultChange(final Expression<?> e) {
+		try {
+			return e.getClass().getMethod("change", Event.class, Object[].class, ChangeMode.class).getDeclaringClass() == SimpleExpression.class;
+		} catch (final NoSuchMethodException ex) {
+			return false;
+		}
+	}
+	
+	@Override
+	@Nullable
+	protected TriggerItem walk(final Event e) {
+		if (!gradual)
+			return super.walk(e);
+		debug(e, true);
+		final Expression<?> changer = this.changer;
+		final Object[] delta = changer == null ? null : changer.getArray(e);
+		final Iterator<?> blocks = changed.iterator(e);
+		if ((delta != null && delta.length == 0) || blocks == null)
+			return getNext();
+		final Changer<?> c = Classes.getSuperClassInfo(changed.getReturnType()).getChanger();
+		assert c != null;
+		final GradualChange change = new GradualChange(c, blocks, delta, e);
+		if (change.step())
+			return getNext();
+		Delay.addDelayedEvent(e);
+		TimingWheel.getInstance().schedule(change, 1);
+		return null;
+	}
+	
+	/**
+	 * Changes blocks in batches of {@link SkriptConfig#gradualChangeBlocksPerTick}, one batch every tick, and continues the trigger when
+	 * done.
+	 */
+	private final class GradualChange implements Runnable {
+		
+		private final Changer<?> changer;
+		private final Iterator<?> blocks;
+		@Nullable
+		private final Object[] delta;
+		private final Event e;
+		
+		GradualChange(final Changer<?> changer, final Iterator<?> blocks, final @Nullable Object[] delta, final Event e) {
+			this.changer = changer;
+			this.blocks = blocks;
+			this.delta = delta;
+			this.e = e;
+		}
+		
+		/**
+		 * Changes the next batch of blocks.
+		 * 
+		 * @return Whether all blocks have been changed
+		 */
+		boolean step() {
+			final Block[] batch = new Block[Math.max(1, SkriptConfig.gradualChangeBlocksPerTick.value())];
+			int n = 0;
+			while (n < batch.length && blocks.hasNext()) {
+				final Object b = blocks.next();
+				if (b != null)
+					batch[n++] = (Block) b;
+			}
+			if (n > 0)
+				ChangerUtils.change(changer, n == batch.length ? batch : Arrays.copyOf(batch, n), delta, mode);
+			return !blocks.hasNext();
+		}
+		
+		@Override
+		public void run() {
+			if (!step()) {
+				TimingWheel.getInstance().schedule(this, 1);
+				return;
+			}
+			final TriggerItem next = getNext();
+			if (next != null)
+				TriggerItem.walk(next, e);
+		}
+		
+	}
+	
 	@Override
 	protected void execute(final Event e) {
 		final Expression<?> changer = this.changer;
@@ -286,7 +399,7 @@ public class EffChange extends Effect {
 				return "add " + changer.toString(e, debug) + " to " + changed.toString(e, debug);
 			case SET:
 				assert changer != null;
-				return "set " + changed.toString(e, debug) + " to " + changer.toString(e, debug);
+				return "set " + changed.toString(e, debug) + " to " + changer.toString(e, debug) + (gradual ? " gradually" : "");
 			case REMOVE:
 				assert changer != null;
 				return "remove " + changer.toString(e, debug) + " from " + changed.toString(e, debug);
@@ -294,9 +407,9 @@ public class EffChange extends Effect {
 				assert changer != null;
 				return "remove all " + changer.toString(e, debug) + " from " + changed.toString(e, debug);
 			case DELETE:
-				return "delete/clear " + changed.toString(e, debug);
+				return "delete/clear " + changed.toString(e, debug) + (gradual ? " gradually" : "");
 			case RESET:
-				return "reset " + changed.toString(e, debug);
+				return "reset " + changed.toString(e, debug) + (gradual ? " gradually" : "");
 		}
 		assert false;
 		return "";
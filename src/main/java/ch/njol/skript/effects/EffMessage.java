@@ -21,7 +21,6 @@ package ch.njol.skript.effects;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
-import java.util.List;
 
 import org.bukkit.command.CommandSender;
 import org.bukkit.conversations.Conversable;
@@ -38,9 +37,7 @@ import ch.njol.skript.lang.Effect;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.VariableString;
-import ch.njol.skript.util.chat.BungeeConverter;
 import ch.njol.skript.util.chat.ChatMessages;
-import ch.njol.skript.util.chat.MessageComponent;
 import ch.njol.util.Kleenean;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.chat.ComponentSerializer;
@@ -83,21 +80,24 @@ public class EffMessage extends Effect {
 		assert messages != null;
 		if (canSendRaw) {
 			assert messages != null;
-			List<MessageComponent> componentList = ((VariableString) messages).getMessageComponents(e);
-			@SuppressWarnings("null") // Most certainly safe, but I guess not...
-			BaseComponent[] components = BungeeConverter.convert(componentList.toArray(new MessageComponent[componentList.size()]));
+			// The message is rendered once and then sent to all recipients
+			BaseComponent[] components = ((VariableString) messages).getBungeeComponents(e);
+			String plain = null;
 			for (final CommandSender s : recipients.getArray(e)) {
 				if (s instanceof Player) { // Use JSON chat
 					((Player) s).spigot().sendMessage(components);
 				} else { // Fall back to non-JSON chat
 					assert messages != null;
-					s.sendMessage(messages.getSingle(e));
+					if (plain == null)
+						plain = messages.getSingle(e);
+					s.sendMessage(plain);
 				}
 			}
 		} else {
 			assert messages != null;
+			final CommandSender[] recipients = this.recipients.getArray(e);
 			for (final String message : messages.getArray(e)) {
-				for (final CommandSender s : recipients.getArray(e)) {
+				for (final CommandSender s : recipients) {
 					s.sendMessage(message);
 				}
 			}
@@ -21,13 +21,13 @@ package ch.njol.skript.effects;
 
 import static ch.njol.skript.effects.Delay.*;
 
-import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
 
 import ch.njol.skript.Skript;
 import ch.njol.skript.lang.TriggerItem;
 import ch.njol.skript.util.Timespan;
+import ch.njol.skript.util.TimingWheel;
 
 /**
  * @author Peter Güttinger
@@ -45,7 +45,7 @@ public class IndeterminateDelay extends Delay {
 			final Timespan d = duration.getSingle(e);
 			if (d == null)
 				return null;
-			Bukkit.getScheduler().scheduleSyncDelayedTask(Skript.getInstance(), new Runnable() {
+			TimingWheel.getInstance().schedule(new Runnable() {
 				@Override
 				public void run() {
 					if (Skript.debug())
@@ -0,0 +1,187 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.entity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.util.TimingWheel;
+import ch.njol.util.Math2;
+
+/**
+ * A snapshot of all entities of a world, sorted into the chunks they are in, to answer many entity queries in the same tick without
+ * asking the world for its entities and their locations every time.
+ * <p>
+ * Grids are built on the first query of a tick and dropped in the next tick, thus they may miss changes made later in the same tick, e.g.
+ * entities that were spawned or that moved since. Entities that have been removed are skipped. Grids may only be used from the main
+ * thread.
+ */
+public final class EntityGrid {
+	
+	private final static Map<World, EntityGrid> grids = new HashMap<>();
+	private static boolean clearScheduled = false;
+	
+	/**
+	 * @return The grid of the given world for the current tick
+	 */
+	public static EntityGrid get(final World world) {
+		assert Bukkit.isPrimaryThread();
+		EntityGrid grid = grids.get(world);
+		if (grid == null) {
+			grids.put(world, grid = new EntityGrid(world));
+			if (!clearScheduled) {
+				clearScheduled = true;
+				TimingWheel.getInstance().schedule(new Runnable() {
+					@Override
+					public void run() {
+						grids.clear();
+						clearScheduled = false;
+					}
+				}, 1);
+			}
+		}
+		return grid;
+	}
+	
+	/**
+	 * Matches entities against a set of entity types. The types an entity can match are determined once per entity class.
+	 */
+	public final static class TypeFilter {
+		
+		private final EntityData<?>[] types;
+		private final Map<Class<?>, EntityData<?>[]> byClass = new ConcurrentHashMap<>();
+		
+		public TypeFilter(final EntityData<?>[] types) {
+			this.types = types;
+		}
+		
+		public EntityData<?>[] getTypes() {
+			return types;
+		}
+		
+		public boolean matches(final Entity e) {
+			EntityData<?>[] ts = byClass.get(e.getClass());
+			if (ts == null) {
+				int n = 0;
+				final EntityData<?>[] candidates = new EntityData<?>[types.length];
+				for (final EntityData<?> t : types) {
+					if (t.getType().isInstance(e))
+						candidates[n++] = t;
+				}
+				byClass.put(e.getClass(), ts = n == types.length ? candidates : Arrays.copyOf(candidates, n));
+			}
+			for (final EntityData<?> t : ts) {
+				if (t.isInstance(e))
+					return true;
+			}
+			return false;
+		}
+		
+	}
+	
+	private final static class Cell {
+		int[] entities = new int[4];
+		int size = 0;
+		
+		Cell() {}
+		
+		void add(final int i) {
+			if (size == entities.length)
+				entities = Arrays.copyOf(entities, size * 2);
+			entities[size++] = i;
+		}
+	}
+	
+	private final Entity[] entities;
+	private final double[] xs, ys, zs;
+	private final Map<Long, Cell> cells = new HashMap<>();
+	
+	private EntityGrid(final World world) {
+		final List<Entity> es = world.getEntities();
+		final int size = es.size();
+		entities = es.toArray(new Entity[size]);
+		xs = new double[size];
+		ys = new double[size];
+		zs = new double[size];
+		final Location l = new Location(world, 0, 0, 0);
+		for (int i = 0; i < size; i++) {
+			entities[i].getLocation(l);
+			xs[i] = l.getX();
+			ys[i] = l.getY();
+			zs[i] = l.getZ();
+			final Long key = key(Math2.floorI(xs[i]) >> 4, Math2.floorI(zs[i]) >> 4);
+			Cell c = cells.get(key);
+			if (c == null)
+				cells.put(key, c = new Cell());
+			c.add(i);
+		}
+	}
+	
+	private static Long key(final int chunkX, final int chunkZ) {
+		return Long.valueOf((long) chunkX << 32 | chunkZ & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Adds all entities of the given types to the given collection.
+	 */
+	public void getAll(final TypeFilter filter, final Collection<? super Entity> result) {
+		for (final Entity e : entities) {
+			if (e.isValid() && filter.matches(e))
+				result.add(e);
+		}
+	}
+	
+	/**
+	 * Adds all entities of the given types whose location is within the given radius of the center to the given collection.
+	 */
+	public void getNearby(final Location center, final double radius, final TypeFilter filter, final Collection<? super Entity> result) {
+		final double x = center.getX(), y = center.getY(), z = center.getZ();
+		final double radiusSquared = radius * radius * Skript.EPSILON_MULT;
+		final int minX = Math2.floorI(x - radius) >> 4, maxX = Math2.floorI(x + radius) >> 4,
+				minZ = Math2.floorI(z - radius) >> 4, maxZ = Math2.floorI(z + radius) >> 4;
+		for (int cx = minX; cx <= maxX; cx++) {
+			for (int cz = minZ; cz <= maxZ; cz++) {
+				final Cell c = cells.get(key(cx, cz));
+				if (c == null)
+					continue;
+				for (int j = 0; j < c.size; j++) {
+					final int i = c.entities[j];
+					final double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+					if (dx * dx + dy * dy + dz * dz > radiusSquared)
+						continue;
+					final Entity e = entities[i];
+					if (e.isValid() && filter.matches(e))
+						result.add(e);
+				}
+			}
+		}
+	}
+	
+}
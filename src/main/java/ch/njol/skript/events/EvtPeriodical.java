@@ -19,7 +19,6 @@
  */
 package ch.njol.skript.events;
 
-import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
@@ -34,6 +33,7 @@ import ch.njol.skript.lang.SkriptEventInfo;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.util.Timespan;
+import ch.njol.skript.util.TimingWheel;
 
 /**
  * @author Peter Güttinger
@@ -62,7 +62,7 @@ public class EvtPeriodical extends SelfRegisteringSkriptEvent {
 	@Nullable
 	private Trigger t;
 	@Nullable
-	private int[] taskIDs;
+	private TimingWheel.Entry[] tasks;
 	
 	@Nullable
 	private transient World[] worlds;
@@ -101,45 +101,47 @@ public class EvtPeriodical extends SelfRegisteringSkriptEvent {
 	@Override
 	public void register(final Trigger t) {
 		this.t = t;
-		int[] taskIDs;
+		final TimingWheel wheel = TimingWheel.getInstance();
+		final long period = Math.max(1, this.period.getTicks_i()); // Bukkit's scheduler treated periods below one tick as one tick
+		TimingWheel.Entry[] tasks;
 		if (worlds == null) {
-			taskIDs = new int[] {Bukkit.getScheduler().scheduleSyncRepeatingTask(Skript.getInstance(), new Runnable() {
+			tasks = new TimingWheel.Entry[] {wheel.schedule(new Runnable() {
 				@Override
 				public void run() {
 					execute(null);
 				}
-			}, period.getTicks_i(), period.getTicks_i())};
+			}, period, period)};
 		} else {
-			taskIDs = new int[worlds.length];
+			tasks = new TimingWheel.Entry[worlds.length];
 			for (int i = 0; i < worlds.length; i++) {
 				final World w = worlds[i];
-				taskIDs[i] = Bukkit.getScheduler().scheduleSyncRepeatingTask(Skript.getInstance(), new Runnable() {
+				tasks[i] = wheel.schedule(new Runnable() {
 					@Override
 					public void run() {
 						execute(w);
 					}
-				}, period.getTicks_i() - (w.getFullTime() % period.getTicks_i()), period.getTicks_i());
+				}, period - (w.getFullTime() % period), period);
 				assert worlds != null; // FindBugs
 			}
 		}
-		this.taskIDs = taskIDs;
+		this.tasks = tasks;
 	}
 	
 	@Override
 	public void unregister(final Trigger t) {
 		assert t == this.t;
 		this.t = null;
-		assert taskIDs != null;
-		for (final int taskID : taskIDs)
-			Bukkit.getScheduler().cancelTask(taskID);
+		assert tasks != null;
+		for (final TimingWheel.Entry task : tasks)
+			task.cancel();
 	}
 	
 	@Override
 	public void unregisterAll() {
 		t = null;
-		assert taskIDs != null;
-		for (final int taskID : taskIDs)
-			Bukkit.getScheduler().cancelTask(taskID);
+		assert tasks != null;
+		for (final TimingWheel.Entry task : tasks)
+			task.cancel();
 	}
 	
 	@Override
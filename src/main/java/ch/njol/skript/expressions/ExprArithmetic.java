@@ -32,6 +32,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
+import ch.njol.skript.lang.NumberExpression;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.lang.util.SimpleLiteral;
@@ -48,56 +49,64 @@ import ch.njol.util.Kleenean;
 		"	message \"Two useless numbers: %loop-num*2 - 5%, %2^loop-num - 1%\"",
 		"message \"You have %health of player * 2% half hearts of HP!\""})
 @Since("1.4.2")
-public class ExprArithmetic extends SimpleExpression<Number> {
+public class ExprArithmetic extends SimpleExpression<Number> implements NumberExpression {
 	
 	private static enum Operator {
 		PLUS('+') {
-			@SuppressWarnings("null")
 			@Override
-			public Number calculate(final Number n1, final Number n2, final boolean integer) {
-				if (integer)
-					return Long.valueOf(n1.longValue() + n2.longValue());
-				return Double.valueOf(n1.doubleValue() + n2.doubleValue());
+			public long calculate(final long n1, final long n2) {
+				return n1 + n2;
+			}
+			
+			@Override
+			public double calculate(final double n1, final double n2) {
+				return n1 + n2;
 			}
 		},
 		MINUS('-') {
-			@SuppressWarnings("null")
 			@Override
-			public Number calculate(final Number n1, final Number n2, final boolean integer) {
-				if (integer)
-					return Long.valueOf(n1.longValue() - n2.longValue());
-				return Double.valueOf(n1.doubleValue() - n2.doubleValue());
+			public long calculate(final long n1, final long n2) {
+				return n1 - n2;
+			}
+			
+			@Override
+			public double calculate(final double n1, final double n2) {
+				return n1 - n2;
 			}
 		},
 		MULT('*') {
-			@SuppressWarnings("null")
 			@Override
-			public Number calculate(final Number n1, final Number n2, final boolean integer) {
-				if (integer)
-					return Long.valueOf(n1.longValue() * n2.longValue());
-				return Double.valueOf(n1.doubleValue() * n2.doubleValue());
+			public long calculate(final long n1, final long n2) {
+				return n1 * n2;
+			}
+			
+			@Override
+			public double calculate(final double n1, final double n2) {
+				return n1 * n2;
 			}
 		},
 		DIV('/') {
-			@SuppressWarnings("null")
 			@Override
-			public Number calculate(final Number n1, final Number n2, final boolean integer) {
-				if (integer) {
-					final long div = n2.longValue();
-					if (div == 0)
-						return Long.MAX_VALUE;
-					return Long.valueOf(n1.longValue() / div);
-				}
-				return Double.valueOf(n1.doubleValue() / n2.doubleValue());
+			public long calculate(final long n1, final long n2) {
+				if (n2 == 0)
+					return Long.MAX_VALUE;
+				return n1 / n2;
+			}
+			
+			@Override
+			public double calculate(final double n1, final double n2) {
+				return n1 / n2;
 			}
 		},
 		EXP('^') {
-			@SuppressWarnings("null")
 			@Override
-			public Number calculate(final Number n1, final Number n2, final boolean integer) {
-				if (integer)
-					return Long.valueOf((long) Math.pow(n1.longValue(), n2.longValue()));
-				return Double.valueOf(Math.pow(n1.doubleValue(), n2.doubleValue()));
+			public long calculate(final long n1, final long n2) {
+				return (long) Math.pow(n1, n2);
+			}
+			
+			@Override
+			public double calculate(final double n1, final double n2) {
+				return Math.pow(n1, n2);
 			}
 		};
 		
@@ -107,7 +116,9 @@ public class ExprArithmetic extends SimpleExpression<Number> {
 			this.sign = sign;
 		}
 		
-		public abstract Number calculate(Number n1, Number n2, boolean integer);
+		public abstract long calculate(long n1, long n2);
+		
+		public abstract double calculate(double n1, double n2);
 		
 		@Override
 		public String toString() {
@@ -133,6 +144,8 @@ public class ExprArithmetic extends SimpleExpression<Number> {
 	
 	@SuppressWarnings("null")
 	private Expression<? extends Number> first, second;
+	@Nullable
+	private NumberExpression firstNumber, secondNumber;
 	@SuppressWarnings("null")
 	private Operator op;
 	
@@ -162,6 +175,8 @@ public class ExprArithmetic extends SimpleExpression<Number> {
 				returnType = Double.class;
 		}
 		integer = returnType == Long.class;
+		firstNumber = NumberExpression.of(first);
+		secondNumber = NumberExpression.of(second);
 		return true;
 	}
 	
@@ -169,15 +184,52 @@ public class ExprArithmetic extends SimpleExpression<Number> {
 	@Override
 	protected Number[] get(final Event e) {
 		final Number[] one = (Number[]) Array.newInstance(returnType, 1);
-		Number n1 = first.getSingle(e), n2 = second.getSingle(e);
-		if (n1 == null)
-			n1 = Integer.valueOf(0);
-		if (n2 == null)
-			n2 = Integer.valueOf(0);
-		one[0] = op.calculate(n1, n2, integer);
+		one[0] = integer ? Long.valueOf(getLong(e, 0)) : Double.valueOf(getDouble(e, 0));
 		return one;
 	}
 	
+	@SuppressWarnings("null")
+	@Override
+	public Number getSingle(final Event e) {
+		return integer ? Long.valueOf(getLong(e, 0)) : Double.valueOf(getDouble(e, 0));
+	}
+	
+	@Override
+	public boolean isIntegral() {
+		return integer;
+	}
+	
+	@Override
+	public double getDouble(final Event e, final double ifMissing) {
+		if (integer)
+			return getLong(e, 0);
+		return op.calculate(getDouble(e, first, firstNumber), getDouble(e, second, secondNumber));
+	}
+	
+	@Override
+	public long getLong(final Event e, final long ifMissing) {
+		if (!integer)
+			return (long) getDouble(e, 0);
+		return op.calculate(getLong(e, first, firstNumber), getLong(e, second, secondNumber));
+	}
+	
+	/**
+	 * Missing values are treated as 0.
+	 */
+	private final static double getDouble(final Event e, final Expression<? extends Number> expr, final @Nullable NumberExpression number) {
+		if (number != null)
+			return number.getDouble(e, 0);
+		final Number n = expr.getSingle(e);
+		return n == null ? 0 : n.doubleValue();
+	}
+	
+	private final static long getLong(final Event e, final Expression<? extends Number> expr, final @Nullable NumberExpression number) {
+		if (number != null)
+			return number.getLong(e, 0);
+		final Number n = expr.getSingle(e);
+		return n == null ? 0 : n.longValue();
+	}
+	
 	@Override
 	public Class<? extends Number> getReturnType() {
 		return returnType;
@@ -193,11 +245,15 @@ public class ExprArithmetic extends SimpleExpression<Number> {
 		return first.toString(e, debug) + " " + op + " " + second.toString(e, debug);
 	}
 	
-	@SuppressWarnings("null")
+	@SuppressWarnings({"null", "unchecked"})
 	@Override
 	public Expression<? extends Number> simplify() {
+		first = first.simplify();
+		second = second.simplify();
 		if (first instanceof Literal && second instanceof Literal)
-			return new SimpleLiteral<>(getArray(null), Number.class, false);
+			return new SimpleLiteral<>(getArray(null), (Class<Number>) returnType, false);
+		firstNumber = NumberExpression.of(first);
+		secondNumber = NumberExpression.of(second);
 		return this;
 	}
 	
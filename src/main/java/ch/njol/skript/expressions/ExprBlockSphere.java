@@ -80,10 +80,7 @@ public class ExprBlockSphere extends SimpleExpression<Block> {
 	@Override
 	@Nullable
 	protected Block[] get(final Event e) {
-		final Number r = radius.getSingle(e);
-		if (r == null)
-			return new Block[0];
-		final ArrayList<Block> list = new ArrayList<>((int) (1.1 * 4 / 3. * Math.PI * Math.pow(r.doubleValue(), 3)));
+		final ArrayList<Block> list = new ArrayList<>();
 		for (final Block b : new IteratorIterable<>(iterator(e)))
 			list.add(b);
 		return list.toArray(new Block[list.size()]);
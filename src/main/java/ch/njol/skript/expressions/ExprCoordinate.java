@@ -31,6 +31,7 @@ import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.expressions.base.SimplePropertyExpression;
 import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.NumberExpression;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.util.Kleenean;
 
@@ -42,7 +43,7 @@ import ch.njol.util.Kleenean;
 @Examples({"player's y-coordinate is smaller than 40:",
 		"	message \"Watch out for lava!\""})
 @Since("1.4.3")
-public class ExprCoordinate extends SimplePropertyExpression<Location, Double> {
+public class ExprCoordinate extends SimplePropertyExpression<Location, Double> implements NumberExpression {
 	static {
 		register(ExprCoordinate.class, Double.class, "(0¦x|1¦y|2¦z)(-| )(coord[inate]|pos[ition]|loc[ation])[s]", "locations");
 	}
@@ -64,6 +65,27 @@ public class ExprCoordinate extends SimplePropertyExpression<Location, Double> {
 		return axis == 0 ? l.getX() : axis == 1 ? l.getY() : l.getZ();
 	}
 	
+	@Override
+	public boolean isIntegral() {
+		return false;
+	}
+	
+	@Override
+	public double getDouble(final Event e, final double ifMissing) {
+		final Location l = getExpr().getSingle(e);
+		if (l == null)
+			return ifMissing;
+		return axis == 0 ? l.getX() : axis == 1 ? l.getY() : l.getZ();
+	}
+	
+	@Override
+	public long getLong(final Event e, final long ifMissing) {
+		final Location l = getExpr().getSingle(e);
+		if (l == null)
+			return ifMissing;
+		return (long) (axis == 0 ? l.getX() : axis == 1 ? l.getY() : l.getZ());
+	}
+	
 	@Override
 	protected String getPropertyName() {
 		return "the " + axes[axis] + "-coordinate";
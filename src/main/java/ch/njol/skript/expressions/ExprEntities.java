@@ -35,11 +35,13 @@ import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
 
 import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptConfig;
 import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Examples;
 import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.entity.EntityData;
+import ch.njol.skript.entity.EntityGrid;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
@@ -91,6 +93,12 @@ public class ExprEntities extends SimpleExpression<Entity> {
 	
 	private int matchedPattern;
 	
+	/**
+	 * Cached if the types are a literal
+	 */
+	@Nullable
+	private EntityGrid.TypeFilter filter;
+	
 	@SuppressWarnings({"unchecked", "null"})
 	@Override
 	public boolean init(final Expression<?>[] exprs, final int matchedPattern, final Kleenean isDelayed, final ParseResult parseResult) {
@@ -131,10 +139,27 @@ public class ExprEntities extends SimpleExpression<Entity> {
 		return returnType;
 	}
 	
+	/**
+	 * @return Whether to use {@link EntityGrid}s, which can only be used from the main thread
+	 */
+	private static boolean useGrid() {
+		return SkriptConfig.cacheEntityQueries.value() && Bukkit.isPrimaryThread();
+	}
+	
+	private EntityGrid.TypeFilter getFilter(final Event e) {
+		EntityGrid.TypeFilter f = filter;
+		if (f != null)
+			return f;
+		f = new EntityGrid.TypeFilter(types.getAll(e));
+		if (types instanceof Literal)
+			filter = f;
+		return f;
+	}
+	
 	@Override
 	@Nullable
 	protected Entity[] get(final Event e) {
-		if (matchedPattern >= 2) {
+		if (matchedPattern >= 2 || useGrid() && !(worlds == null && returnType == Player.class)) {
 			final Iterator<? extends Entity> iter = iterator(e);
 			if (iter == null || !iter.hasNext())
 				return new Entity[0];
@@ -191,30 +216,36 @@ public class ExprEntities extends SimpleExpression<Entity> {
 			if (n == null)
 				return null;
 			final double d = n.doubleValue();
+			if (useGrid()) {
+				final List<Entity> es = new ArrayList<>();
+				EntityGrid.get(l.getWorld()).getNearby(l, d, getFilter(e), es);
+				return es.iterator();
+			}
 			final Collection<Entity> es = l.getWorld().getNearbyEntities(l, d, d, d);
 			final double radiusSquared = d * d * Skript.EPSILON_MULT;
-			final EntityData<?>[] ts = types.getAll(e);
+			final EntityGrid.TypeFilter ts = getFilter(e);
 			return new CheckedIterator<>(es.iterator(), new NullableChecker<Entity>() {
 				@Override
 				public boolean check(final @Nullable Entity e) {
-					if (e == null || e.getLocation().distanceSquared(l) > radiusSquared)
-						return false;
-					for (final EntityData<?> t : ts) {
-						if (t.isInstance(e))
-							return true;
-					}
-					return false;
+					return e != null && e.getLocation().distanceSquared(l) <= radiusSquared && ts.matches(e);
 				}
 			});
 		} else {
 			if (worlds == null && returnType == Player.class)
 				return super.iterator(e);
+			if (useGrid()) {
+				final List<Entity> es = new ArrayList<>();
+				final EntityGrid.TypeFilter ts = getFilter(e);
+				for (final World w : worlds == null ? Bukkit.getWorlds().toArray(new World[0]) : worlds.getArray(e))
+					EntityGrid.get(w).getAll(ts, es);
+				return es.iterator();
+			}
 			return new NonNullIterator<Entity>() {
 				
 				private final World[] ws = worlds == null ? Bukkit.getWorlds().toArray(new World[0]) : worlds.getArray(e);
 				private int w = -1;
 				
-				private final EntityData<?>[] ts = types.getAll(e);
+				private final EntityGrid.TypeFilter ts = getFilter(e);
 				
 				@Nullable
 				private Iterator<? extends Entity> curIter = null;
@@ -231,10 +262,8 @@ public class ExprEntities extends SimpleExpression<Entity> {
 						}
 						while (curIter.hasNext()) {
 							final Entity current = curIter.next();
-							for (final EntityData<?> t : ts) {
-								if (t.isInstance(current))
-									return current;
-							}
+							if (ts.matches(current))
+								return current;
 						}
 					}
 				}
@@ -32,6 +32,7 @@ import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.expressions.base.PropertyExpression;
 import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.NumberExpression;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.util.Getter;
 import ch.njol.util.Kleenean;
@@ -45,7 +46,7 @@ import ch.njol.util.coll.CollectionUtils;
 @Examples({"message \"You have %health% HP left.\""})
 @Since("1.0")
 @Events("damage")
-public class ExprHealth extends PropertyExpression<LivingEntity, Double> {
+public class ExprHealth extends PropertyExpression<LivingEntity, Double> implements NumberExpression {
 	static {
 		register(ExprHealth.class, Double.class, "health", "livingentities");
 	}
@@ -76,6 +77,23 @@ public class ExprHealth extends PropertyExpression<LivingEntity, Double> {
 		});
 	}
 	
+	@Override
+	public boolean isIntegral() {
+		return false;
+	}
+	
+	@Override
+	public double getDouble(final Event e, final double ifMissing) {
+		final LivingEntity entity = getExpr().getSingle(e);
+		return entity == null ? ifMissing : HealthUtils.getHealth(entity);
+	}
+	
+	@Override
+	public long getLong(final Event e, final long ifMissing) {
+		final LivingEntity entity = getExpr().getSingle(e);
+		return entity == null ? ifMissing : (long) HealthUtils.getHealth(entity);
+	}
+	
 	@Override
 	public String toString(final @Nullable Event e, final boolean debug) {
 		return "the health of " + getExpr().toString(e, debug);
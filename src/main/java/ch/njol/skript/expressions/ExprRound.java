@@ -31,6 +31,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.expressions.base.PropertyExpression;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
+import ch.njol.skript.lang.NumberExpression;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.util.Kleenean;
 import ch.njol.util.Math2;
@@ -45,7 +46,7 @@ import ch.njol.util.Math2;
 		"set {_x} to floor({_y}) - ceil({_x})",
 		"add rounded down argument to the player's health"})
 @Since("2.0")
-public class ExprRound extends PropertyExpression<Number, Long> {
+public class ExprRound extends PropertyExpression<Number, Long> implements NumberExpression {
 	static {
 		Skript.registerExpression(ExprRound.class, Long.class, ExpressionType.PROPERTY,
 				"(a|the|) round[ed] down %number%",
@@ -55,25 +56,70 @@ public class ExprRound extends PropertyExpression<Number, Long> {
 	
 	int action;
 	
+	@Nullable
+	private NumberExpression number;
+	
 	@SuppressWarnings({"unchecked", "null"})
 	@Override
 	public boolean init(final Expression<?>[] exprs, final int matchedPattern, final Kleenean isDelayed, final ParseResult parseResult) {
 		setExpr((Expression<? extends Number>) exprs[0]);
 		action = matchedPattern - 1;
+		number = NumberExpression.of(getExpr());
+		return true;
+	}
+	
+	@Override
+	public boolean isIntegral() {
 		return true;
 	}
 	
+	@Override
+	public double getDouble(final Event e, final double ifMissing) {
+		final NumberExpression number = this.number;
+		if (number != null) {
+			if (number.isIntegral())
+				return number.getDouble(e, ifMissing);
+			final double d = number.getDouble(e, Double.NaN);
+			if (!Double.isNaN(d))
+				return round(d);
+		}
+		final Number n = getExpr().getSingle(e);
+		return n == null ? ifMissing : round(n);
+	}
+	
+	@Override
+	public long getLong(final Event e, final long ifMissing) {
+		final NumberExpression number = this.number;
+		if (number != null) {
+			if (number.isIntegral())
+				return number.getLong(e, ifMissing);
+			final double d = number.getDouble(e, Double.NaN);
+			if (!Double.isNaN(d))
+				return round(d);
+		}
+		final Number n = getExpr().getSingle(e);
+		return n == null ? ifMissing : round(n);
+	}
+	
+	private long round(final Number n) {
+		if (n instanceof Integer || n instanceof Long)
+			return n.longValue();
+		return round(n.doubleValue());
+	}
+	
+	private long round(final double d) {
+		return action == -1 ? Math2.floor(d) : action == 0 ? Math2.round(d) : Math2.ceil(d);
+	}
+	
 	@Override
 	protected Long[] get(final Event e, final Number[] source) {
 		return get(source, new Converter<Number, Long>() {
 			@SuppressWarnings("null")
 			@Override
 			public Long convert(final Number n) {
-				if (n instanceof Integer)
-					return Long.valueOf(n.longValue());
-				else if (n instanceof Long)
+				if (n instanceof Long)
 					return (Long) n;
-				return Long.valueOf(action == -1 ? Math2.floor(n.doubleValue()) : action == 0 ? Math2.round(n.doubleValue()) : Math2.ceil(n.doubleValue()));
+				return Long.valueOf(round(n));
 			}
 		});
 	}
@@ -37,6 +37,22 @@ import ch.njol.util.Kleenean;
  */
 public abstract class SimplePropertyExpression<F, T> extends PropertyExpression<F, T> implements Converter<F, T> {
 	
+	/**
+	 * Whether a subclass doesn't override {@link #get(Event, Object[])} and can thus convert a single value directly.
+	 */
+	private final static ClassValue<Boolean> convertsDirectly = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(final @Nullable Class<?> c) {
+			for (Class<?> sc = c; sc != null && sc != SimplePropertyExpression.class; sc = sc.getSuperclass()) {
+				try {
+					sc.getDeclaredMethod("get", Event.class, Object[].class); // also finds bridge methods of overrides with a more specific array type
+					return false;
+				} catch (final NoSuchMethodException ex) {}
+			}
+			return true;
+		}
+	};
+	
 	@SuppressWarnings({"unchecked", "null"})
 	@Override
 	public boolean init(final Expression<?>[] exprs, final int matchedPattern, final Kleenean isDelayed, final ParseResult parseResult) {
@@ -55,6 +71,19 @@ public abstract class SimplePropertyExpression<F, T> extends PropertyExpression<
 		return super.get(source, this);
 	}
 	
+	/**
+	 * Converts the single value of the source expression directly if it is single, unless the subclass overrides {@link #get(Event, Object[])}.
+	 */
+	@Override
+	@Nullable
+	public T getSingle(final Event e) {
+		final Expression<? extends F> expr = getExpr();
+		if (!expr.isSingle() || !convertsDirectly.get(getClass()))
+			return getSingleFromArray(e);
+		final F f = expr.getSingle(e);
+		return f == null ? null : convert(f);
+	}
+	
 	@Override
 	public String toString(final @Nullable Event e, final boolean debug) {
 		return "the " + getPropertyName() + " of " + getExpr().toString(e, debug);
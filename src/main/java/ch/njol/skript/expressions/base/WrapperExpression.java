@@ -44,6 +44,22 @@ import ch.njol.util.Kleenean;
  */
 public abstract class WrapperExpression<T> extends SimpleExpression<T> {
 	
+	/**
+	 * Whether a subclass doesn't override {@link #get(Event)} and can thus return the single value of the wrapped expression directly.
+	 */
+	private final static ClassValue<Boolean> delegatesSingle = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(final @Nullable Class<?> c) {
+			for (Class<?> sc = c; sc != null && sc != WrapperExpression.class; sc = sc.getSuperclass()) {
+				try {
+					sc.getDeclaredMethod("get", Event.class);
+					return false;
+				} catch (final NoSuchMethodException ex) {}
+			}
+			return true;
+		}
+	};
+	
 	private Expression<? extends T> expr;
 	
 	@SuppressWarnings("null")
@@ -93,6 +109,14 @@ public abstract class WrapperExpression<T> extends SimpleExpression<T> {
 		return expr.getArray(e);
 	}
 	
+	@Override
+	@Nullable
+	public T getSingle(final Event e) {
+		if (!delegatesSingle.get(getClass()))
+			return getSingleFromArray(e);
+		return expr.getSingle(e);
+	}
+	
 	@Override
 	@Nullable
 	public Iterator<? extends T> iterator(final Event e) {
@@ -142,7 +166,8 @@ public abstract class WrapperExpression<T> extends SimpleExpression<T> {
 	
 	@Override
 	public Expression<? extends T> simplify() {
-		return expr;
+		expr = expr.simplify();
+		return this;
 	}
 	
 }
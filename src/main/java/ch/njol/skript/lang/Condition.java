@@ -27,6 +27,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import ch.njol.skript.Skript;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.util.Checker;
+import ch.njol.util.Kleenean;
 
 /**
  * A condition which must be fulfilled for the trigger to continue. If the condition is in a section the behaviour depends on the section.
@@ -56,6 +57,16 @@ public abstract class Condition extends Statement {
 		return check(e);
 	}
 	
+	/**
+	 * Checks whether this condition's outcome is independent of the event, e.g. because it only compares literals. This is used to drop dead branches of
+	 * {@link Conditional}s after parsing.
+	 * 
+	 * @return {@link Kleenean#TRUE} or {@link Kleenean#FALSE} if this condition always has that outcome, {@link Kleenean#UNKNOWN} if it has to be checked for every event.
+	 */
+	public Kleenean getConstantValue() {
+		return Kleenean.UNKNOWN;
+	}
+	
 	/**
 	 * Sets the negation state of this condition. This will change the behaviour of {@link Expression#check(Event, Checker, boolean)}.
 	 * 
@@ -22,7 +22,9 @@ package ch.njol.skript.lang;
 import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
 
+import ch.njol.skript.Skript;
 import ch.njol.skript.config.SectionNode;
+import ch.njol.util.Kleenean;
 
 /**
  * Represents a conditional trigger section.
@@ -40,6 +42,11 @@ public class Conditional extends TriggerSection {
 	@Nullable
 	private TriggerSection elseClause = null;
 	
+	/**
+	 * Set by {@link #fold()} if the condition always holds.
+	 */
+	private boolean alwaysTrue = false;
+	
 	public Conditional(final Condition cond, final SectionNode node) {
 		super(node);
 		this.cond = cond;
@@ -48,7 +55,7 @@ public class Conditional extends TriggerSection {
 	@Override
 	@Nullable
 	protected TriggerItem walk(final Event e) {
-		if (cond.run(e)) {
+		if (alwaysTrue || cond.run(e)) {
 			return walk(e, true);
 		} else {
 			debug(e, false);
@@ -96,6 +103,34 @@ public class Conditional extends TriggerSection {
 				.setNext(getNext());
 	}
 	
+	/**
+	 * Drops branches of this conditional and its 'else if's that can never be run because their condition is constant. Must only be called after all else clauses have been
+	 * loaded.
+	 * 
+	 * @return The item that should replace this conditional, i.e. this conditional itself, its else clause, or null if nothing is left to be run.
+	 * @see Condition#getConstantValue()
+	 */
+	@Nullable
+	public TriggerItem fold() {
+		final Kleenean value = cond.getConstantValue();
+		final TriggerSection elseClause = this.elseClause;
+		if (value.isTrue()) {
+			if (Skript.debug())
+				Skript.debug("Folded constant condition " + cond.toString(null, true) + (elseClause != null ? ", dropping its else clause" : ""));
+			alwaysTrue = true;
+			this.elseClause = null;
+			return this;
+		}
+		final TriggerItem foldedElse = elseClause instanceof Conditional ? ((Conditional) elseClause).fold() : elseClause;
+		if (value.isFalse()) {
+			if (Skript.debug())
+				Skript.debug("Folded constant condition " + cond.toString(null, true) + ", dropping its section");
+			return foldedElse;
+		}
+		this.elseClause = (TriggerSection) foldedElse;
+		return this;
+	}
+	
 	public boolean hasElseClause() {
 		return elseClause != null && !(elseClause instanceof Conditional);
 	}
@@ -220,7 +220,7 @@ public interface Expression<T> extends SyntaxElement, Debuggable {
 	 * <p>
 	 * After this method was used the toString methods are likely not useful anymore.
 	 * <p>
-	 * This method is not yet used but will be used to improve efficiency in the future.
+	 * This method is called on all expressions that are parsed as part of another syntax element, except for lists and variables.
 	 * 
 	 * @return A reference to a simpler version of this expression. Can change this expression directly and return itself if applicable, i.e. no references to the expression before
 	 *         this method call should be kept!
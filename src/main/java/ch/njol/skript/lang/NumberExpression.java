@@ -0,0 +1,92 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.lang;
+
+import org.bukkit.event.Event;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An expression that can return its value as a primitive number. This is used by arithmetic and comparisons to avoid boxing every intermediate result.
+ * <p>
+ * The methods of this interface are only used if the expression is {@link Expression#isSingle() single}, use {@link #of(Expression)} to get an instance from an
+ * arbitrary expression.
+ */
+public interface NumberExpression {
+	
+	/**
+	 * @return Whether this expression only returns whole numbers, i.e. whether {@link #getLong(Event, long)} returns exact values.
+	 */
+	public boolean isIntegral();
+	
+	/**
+	 * @param e The event
+	 * @param ifMissing The value to return if this expression doesn't have a value for the given event
+	 * @return The value of this expression as a double
+	 */
+	public double getDouble(Event e, double ifMissing);
+	
+	/**
+	 * @param e The event
+	 * @param ifMissing The value to return if this expression doesn't have a value for the given event
+	 * @return The value of this expression as a long, truncated like {@link Number#longValue()} if this expression is not {@link #isIntegral() integral}
+	 */
+	public long getLong(Event e, long ifMissing);
+	
+	/**
+	 * Gets a primitive view of the given expression.
+	 * 
+	 * @param expr An expression returning numbers
+	 * @return The expression itself if it implements this interface, a constant view if it is a single number literal, or null if the expression is not single or doesn't
+	 *         support primitive evaluation.
+	 */
+	@Nullable
+	public static NumberExpression of(final Expression<?> expr) {
+		if (!expr.isSingle())
+			return null;
+		if (expr instanceof NumberExpression)
+			return (NumberExpression) expr;
+		if (expr instanceof Literal && !(expr instanceof UnparsedLiteral)) {
+			final Object value = ((Literal<?>) expr).getSingle();
+			if (!(value instanceof Number))
+				return null;
+			final boolean integral = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+			final double d = ((Number) value).doubleValue();
+			final long l = ((Number) value).longValue();
+			return new NumberExpression() {
+				@Override
+				public boolean isIntegral() {
+					return integral;
+				}
+				
+				@Override
+				public double getDouble(final Event e, final double ifMissing) {
+					return d;
+				}
+				
+				@Override
+				public long getLong(final Event e, final long ifMissing) {
+					return l;
+				}
+			};
+		}
+		return null;
+	}
+	
+}
@@ -246,6 +246,8 @@ public class SkriptParser {
 											continue patternsLoop;
 										res.exprs[j] = expr;
 									}
+								} else {
+									res.exprs[j] = fold(res.exprs[j]);
 								}
 								x = x2;
 							}
@@ -269,6 +271,21 @@ public class SkriptParser {
 		}
 	}
 	
+	/**
+	 * Simplifies an expression that was parsed as part of another syntax element, e.g. folds <tt>2 * 3</tt> or a string that only contains options into a literal.
+	 * <p>
+	 * Lists and variables are never simplified as many elements check for these types in their init method.
+	 */
+	private final static Expression<?> fold(final Expression<?> expr) {
+		if (expr instanceof Literal || expr instanceof ExpressionList || expr instanceof Variable)
+			return expr;
+		final String before = Skript.debug() ? expr.toString(null, true) : null;
+		final Expression<?> folded = expr.simplify();
+		if (before != null && folded instanceof Literal)
+			Skript.debug("Folded " + before + " into " + folded.toString(null, true));
+		return folded;
+	}
+	
 	@SuppressWarnings("null")
 	private final static Pattern varPattern = Pattern.compile("((the )?var(iable)? )?\\{([^{}]|%\\{|\\}%)+\\}", Pattern.CASE_INSENSITIVE);
 	
@@ -25,6 +25,8 @@ import java.util.List;
 import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
 
+import ch.njol.skript.timings.SkriptProfiler;
+
 /**
  * @author Peter Güttinger
  */
@@ -35,7 +37,6 @@ public class Trigger extends TriggerSection {
 	
 	@Nullable
 	private final File script;
-	private int line = -1; // -1 is default: it means there is no line number available
 	private String debugLabel;
 	
 	public Trigger(final @Nullable File script, final String name, final SkriptEvent event, final List<TriggerItem> items) {
@@ -52,7 +53,14 @@ public class Trigger extends TriggerSection {
 	 * @return false if an exception occurred
 	 */
 	public boolean execute(final Event e) {
-		return TriggerItem.walk(this, e);
+		if (!SkriptProfiler.enabled())
+			return TriggerItem.walk(this, e);
+		final SkriptProfiler.Frame f = SkriptProfiler.enter(this, e);
+		try {
+			return TriggerItem.walk(this, e);
+		} finally {
+			SkriptProfiler.exit(f);
+		}
 	}
 	
 	@Override
@@ -83,24 +91,6 @@ public class Trigger extends TriggerSection {
 		return script;
 	}
 
-	/**
-	 * Sets line number for this trigger's start.
-	 * Only used for debugging.
-	 * @param line Line number
-	 */
-	public void setLineNumber(int line) {
-		this.line  = line;
-	}
-	
-	/**
-	 * Gets line number for this trigger's start.
-	 * Only use it for debugging!
-	 * @return Line number.
-	 */
-	public int getLineNumber() {
-		return line;
-	}
-	
 	public void setDebugLabel(String label) {
 		this.debugLabel = label;
 	}
@@ -25,6 +25,7 @@ import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
 
 import ch.njol.skript.Skript;
+import ch.njol.skript.timings.SkriptProfiler;
 import ch.njol.util.StringUtils;
 
 /**
@@ -41,6 +42,7 @@ public abstract class TriggerItem implements Debuggable {
 	protected TriggerSection parent = null;
 	@Nullable
 	private TriggerItem next = null;
+	private int line = -1; // -1 is default: it means there is no line number available
 	
 	protected TriggerItem() {}
 	
@@ -79,14 +81,39 @@ public abstract class TriggerItem implements Debuggable {
 	/**
 	 * @param start
 	 * @param e
-	 * @return false iff an exception occurred
+	 * @return false iff an exception occurred or the {@link TriggerWatchdog} stopped the trigger
 	 */
 	public final static boolean walk(final TriggerItem start, final Event e) {
 		assert start != null && e != null;
 		TriggerItem i = start;
+		final long startTime = System.nanoTime();
+		int items = 0, iterations = 0;
+		boolean checked = false;
 		try {
-			while (i != null)
-				i = i.walk(e);
+			while (i != null) {
+				if (!checked && (i instanceof Loop || i instanceof While ? ++iterations % TriggerWatchdog.LOOP_INTERVAL == 0 : ++items % TriggerWatchdog.ITEM_INTERVAL == 0)) {
+					final TriggerWatchdog.Action action = TriggerWatchdog.check(start, i, e, startTime, iterations);
+					if (action != null) {
+						checked = true; // only act once per execution
+						if (action == TriggerWatchdog.Action.ABORT)
+							return false;
+						if (action == TriggerWatchdog.Action.DEFER) {
+							TriggerWatchdog.defer(i, e);
+							return true;
+						}
+					}
+				}
+				if (SkriptProfiler.enabled() && !(i instanceof Trigger)) {
+					final SkriptProfiler.Frame f = SkriptProfiler.enter(i);
+					try {
+						i = i.walk(e);
+					} finally {
+						SkriptProfiler.exit(f);
+					}
+				} else {
+					i = i.walk(e);
+				}
+			}
 			
 			return true;
 		} catch (final StackOverflowError err) {
@@ -156,6 +183,24 @@ public abstract class TriggerItem implements Debuggable {
 		return (Trigger) i;
 	}
 	
+	/**
+	 * Sets the line number of this item in its script.
+	 * Only used for debugging.
+	 * @param line Line number
+	 */
+	public void setLineNumber(int line) {
+		this.line = line;
+	}
+	
+	/**
+	 * Gets the line number of this item in its script.
+	 * Only use it for debugging!
+	 * @return Line number, or -1 if it's not known.
+	 */
+	public int getLineNumber() {
+		return line;
+	}
+	
 	public TriggerItem setNext(final @Nullable TriggerItem next) {
 		this.next = next;
 		return this;
@@ -0,0 +1,171 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.lang;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.event.Event;
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.effects.Delay;
+import ch.njol.skript.lang.function.FunctionEvent;
+import ch.njol.skript.util.TimingWheel;
+
+/**
+ * Watches how long a trigger runs without interruption. This is checked by {@link TriggerItem#walk(TriggerItem, Event)} every few hundred
+ * items and every few loop iterations, so a trigger that exceeds its time budget is reported with the line it is currently at, and is
+ * optionally continued in the next tick or stopped.
+ * <p>
+ * The budget can be set in the main config and overridden per script with a <tt>watchdog:</tt> section.
+ * <p>
+ * A budget never splits a function call: functions return their value to the caller synchronously, so a function that exceeds the
+ * budget is only reported, and the calling trigger is deferred or stopped once it exceeds its own budget.
+ */
+public final class TriggerWatchdog {
+	
+	private TriggerWatchdog() {}
+	
+	/**
+	 * What to do with a trigger that exceeded its time budget.
+	 */
+	public static enum Action {
+		/**
+		 * Only report the trigger
+		 */
+		WARN,
+		/**
+		 * Continue the trigger in the next tick, like after a delay
+		 */
+		DEFER,
+		/**
+		 * Stop the trigger
+		 */
+		ABORT;
+	}
+	
+	/**
+	 * A time budget and the action to take when it's exceeded.
+	 */
+	public final static class Budget {
+		
+		/**
+		 * The budget in nanoseconds, or 0 if there is none
+		 */
+		final long nanos;
+		final Action action;
+		
+		public Budget(final long millis, final Action action) {
+			nanos = millis * 1000000L;
+			this.action = action;
+		}
+		
+	}
+	
+	/**
+	 * Items walked between two checks
+	 */
+	final static int ITEM_INTERVAL = 256;
+	/**
+	 * Loop iterations between two checks
+	 */
+	final static int LOOP_INTERVAL = 64;
+	
+	/**
+	 * How long a script is reported at most once
+	 */
+	private final static long REPORT_INTERVAL = 60L * 1000000000L;
+	
+	private static volatile Budget defaultBudget = new Budget(0, Action.WARN);
+	private final static Map<File, Budget> scriptBudgets = new ConcurrentHashMap<>();
+	private final static Map<File, Long> lastReports = new ConcurrentHashMap<>();
+	
+	public static void setDefaultBudget(final Budget budget) {
+		defaultBudget = budget;
+	}
+	
+	/**
+	 * Sets the budget of all triggers of a script.
+	 * 
+	 * @param script The script
+	 * @param budget The budget, or null to use the default budget
+	 */
+	public static void setBudget(final File script, final @Nullable Budget budget) {
+		if (budget == null)
+			scriptBudgets.remove(script);
+		else
+			scriptBudgets.put(script, budget);
+	}
+	
+	/**
+	 * Checks whether the execution started by {@link TriggerItem#walk(TriggerItem, Event)} exceeded its budget, and reports it if so.
+	 * 
+	 * @param start The item the execution started at
+	 * @param current The item that is about to be executed
+	 * @param e The event of the execution
+	 * @param startTime When the execution started, as returned by {@link System#nanoTime()}
+	 * @param iterations How many loop iterations were executed so far
+	 * @return The action to take, or null if the budget was not exceeded. This is always {@link Action#WARN} in functions.
+	 */
+	@Nullable
+	static Action check(final TriggerItem start, final TriggerItem current, final Event e, final long startTime, final int iterations) {
+		final Trigger t = start.getTrigger();
+		final File script = t == null ? null : t.getScript();
+		Budget b = script == null ? null : scriptBudgets.get(script);
+		if (b == null)
+			b = defaultBudget;
+		final long time = System.nanoTime() - startTime;
+		if (b.nanos <= 0 || time <= b.nanos)
+			return null;
+		final Action action = e instanceof FunctionEvent ? Action.WARN : b.action;
+		report(script, current, time, iterations, action);
+		return action;
+	}
+	
+	private static void report(final @Nullable File script, final TriggerItem current, final long time, final int iterations, final Action action) {
+		final long now = System.nanoTime();
+		if (script != null) {
+			final Long last = lastReports.get(script);
+			if (last != null && now - last < REPORT_INTERVAL)
+				return;
+			lastReports.put(script, now);
+		}
+		Skript.adminBroadcast("<red>The script '<gold>" + (script == null ? "<unknown>" : script.getName()) + "<red>' has been running for "
+				+ time / 1000000 + " ms at line " + current.getLineNumber() + " (" + iterations + " loop iteration" + (iterations == 1 ? "" : "s") + ")"
+				+ (action == Action.WARN ? "" : " and has been " + (action == Action.DEFER ? "continued in the next tick" : "stopped"))
+				+ ". This message is shown at most once a minute per script.");
+	}
+	
+	/**
+	 * Continues a trigger in the next tick.
+	 */
+	static void defer(final TriggerItem next, final Event e) {
+		Delay.addDelayedEvent(e);
+		TimingWheel.getInstance().schedule(new Runnable() {
+			@Override
+			public void run() {
+				TriggerItem.walk(next, e);
+			}
+		}, 1);
+	}
+	
+}
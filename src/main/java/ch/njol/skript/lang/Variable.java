@@ -54,6 +54,7 @@ import ch.njol.skript.registrations.Comparators;
 import ch.njol.skript.registrations.Converters;
 import ch.njol.skript.util.StringMode;
 import ch.njol.skript.util.Utils;
+import ch.njol.skript.variables.VariableName;
 import ch.njol.skript.variables.Variables;
 import ch.njol.util.Checker;
 import ch.njol.util.Kleenean;
@@ -199,10 +200,10 @@ public class Variable<T> implements Expression<T> {
 	 */
 	@Nullable
 	private Object getRaw(final Event e) {
-		final String n = name.toString(e).toLowerCase(Locale.ENGLISH);
-		if (n.endsWith(Variable.SEPARATOR + "*") != list) // prevents e.g. {%expr%} where "%expr%" ends with "::*" from returning a Map
+		final VariableName n = name.toVariableName(e);
+		if (n.getName().endsWith(Variable.SEPARATOR + "*") != list) // prevents e.g. {%expr%} where "%expr%" ends with "::*" from returning a Map
 			return null;
-		final Object val = !list ? convertIfOldPlayer(n, e, Variables.getVariable(n, e, local)) : Variables.getVariable(n, e, local);
+		final Object val = !list ? convertIfOldPlayer(n.getName(), e, Variables.getVariable(n, e, local)) : Variables.getVariable(n, e, local);
 		if (val == null)
 			return Variables.getVariable((local ? LOCAL_VARIABLE_TOKEN : "") + name.getDefaultVariableName().toLowerCase(Locale.ENGLISH), e, false);
 		return val;
@@ -217,7 +218,7 @@ public class Variable<T> implements Expression<T> {
 		if (val == null)
 			return Array.newInstance(types[0], 0);
 		final List<Object> l = new ArrayList<>();
-		final String name = StringUtils.substring(this.name.toString(e), 0, -1).toLowerCase(Locale.ENGLISH);
+		final String name = StringUtils.substring(this.name.toVariableName(e).getName(), 0, -1);
 		for (final Entry<String, ?> v : ((Map<String, ?>) val).entrySet()) {
 			if (v.getKey() != null && v.getValue() != null) {
 				Object o;
@@ -254,7 +255,7 @@ public class Variable<T> implements Expression<T> {
 	public Iterator<Pair<String, Object>> variablesIterator(final Event e) {
 		if (!list)
 			throw new SkriptAPIException("Looping a non-list variable");
-		final String name = StringUtils.substring(this.name.toString(e), 0, -1).toLowerCase(Locale.ENGLISH);
+		final String name = StringUtils.substring(this.name.toVariableName(e).getName(), 0, -1);
 		final Object val = Variables.getVariable(name + "*", e, local);
 		if (val == null)
 			return new EmptyIterator<>();
@@ -304,7 +305,7 @@ public class Variable<T> implements Expression<T> {
 	public Iterator<T> iterator(final Event e) {
 		if (!list)
 			throw new SkriptAPIException("");
-		final String name = StringUtils.substring(this.name.toString(e), 0, -1).toLowerCase(Locale.ENGLISH);
+		final String name = StringUtils.substring(this.name.toVariableName(e).getName(), 0, -1);
 		final Object val = Variables.getVariable(name + "*", e, local);
 		if (val == null)
 			return new EmptyIterator<>();
@@ -365,12 +366,12 @@ public class Variable<T> implements Expression<T> {
 	}
 	
 	private final void set(final Event e, final @Nullable Object value) {
-		Variables.setVariable("" + name.toString(e).toLowerCase(Locale.ENGLISH), value, e, local);
+		Variables.setVariable(name.toVariableName(e), value, e, local);
 	}
 	
 	private final void setIndex(final Event e, final String index, final @Nullable Object value) {
 		assert list;
-		final String s = name.toString(e).toLowerCase(Locale.ENGLISH);
+		final String s = name.toVariableName(e).getName();
 		assert s.endsWith("::*") : s + "; " + name;
 		Variables.setVariable(s.substring(0, s.length() - 1) + index.toLowerCase(Locale.ENGLISH), value, e, local);
 	}
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.regex.Pattern;
@@ -50,13 +51,16 @@ import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.util.StringMode;
 import ch.njol.skript.util.Utils;
+import ch.njol.skript.util.chat.BungeeConverter;
 import ch.njol.skript.util.chat.ChatMessages;
 import ch.njol.skript.util.chat.MessageComponent;
+import ch.njol.skript.variables.VariableName;
 import ch.njol.util.Checker;
 import ch.njol.util.Kleenean;
 import ch.njol.util.StringUtils;
 import ch.njol.util.coll.CollectionUtils;
 import ch.njol.util.coll.iterator.SingleItemIterator;
+import net.md_5.bungee.api.chat.BaseComponent;
 
 /**
  * Represents a string that may contain expressions, and is thus "variable".
@@ -88,6 +92,23 @@ public class VariableString implements Expression<String> {
 	private final String simpleUnformatted;
 	private final StringMode mode;
 	
+	/**
+	 * Caches for {@link #toVariableName(Event)}: the name itself if this string is simple, otherwise {@link #string} with all literal parts in
+	 * lower case.
+	 */
+	@Nullable
+	private volatile VariableName simpleVariableName;
+	@Nullable
+	private volatile Object[] lowerCaseString;
+	
+	/**
+	 * Chat components of a simple string, parsed when they are first needed.
+	 */
+	@Nullable
+	private volatile List<MessageComponent> simpleComponents;
+	@Nullable
+	private volatile BaseComponent[] simpleBungeeComponents;
+	
 	/**
 	 * Creates a new VariableString which does not contain variables.
 	 * @param s Content for string.
@@ -136,6 +157,23 @@ public class VariableString implements Expression<String> {
 		simpleUnformatted = null;
 	}
 	
+	/**
+	 * Creates a new VariableString whose expressions have already been evaluated.
+	 * @param orig Original string (unparsed).
+	 * @param string Objects, all variables of which are literals. Kept for {@link #setMode(StringMode)}.
+	 * @param simple Evaluated string with chat styles replaced.
+	 * @param simpleUnformatted Evaluated string without chat styles replaced.
+	 * @param mode String mode.
+	 */
+	private VariableString(final String orig, final Object[] string, final String simple, final String simpleUnformatted, final StringMode mode) {
+		this.orig = orig;
+		this.string = string;
+		isSimple = true;
+		this.simple = simple;
+		this.simpleUnformatted = simpleUnformatted;
+		this.mode = mode;
+	}
+	
 	/**
 	 * Prints errors
 	 */
@@ -301,7 +339,7 @@ public class VariableString implements Expression<String> {
 		
 		final Object[] sa = string.toArray();
 		assert sa != null;
-		return new VariableString(orig, sa, mode);
+		return new VariableString(orig, sa, mode).simplify();
 	}
 	
 	private static void checkVariableConflicts(final String name, final StringMode mode, final @Nullable Iterable<Object> string) {
@@ -476,15 +514,46 @@ public class VariableString implements Expression<String> {
 		return "" + b.toString();
 	}
 	
+	/**
+	 * Parses all expressions in the string and returns it as chat components.
+	 * <p>
+	 * <b>Do not modify the returned list!</b> It is cached if this string is simple.
+	 * 
+	 * @param e Event to pass to the expressions.
+	 * @return The input string with all expressions replaced, parsed into chat components.
+	 */
 	public List<MessageComponent> getMessageComponents(final Event e) {
 		if (isSimple) {
-			assert simpleUnformatted != null;
-			return ChatMessages.parse(simpleUnformatted);
+			List<MessageComponent> components = simpleComponents;
+			if (components == null) {
+				assert simpleUnformatted != null;
+				simpleComponents = components = ChatMessages.parse(simpleUnformatted);
+			}
+			return components;
 		}
 		
 		return ChatMessages.parse(toUnformattedString(e));
 	}
 	
+	/**
+	 * Parses all expressions in the string and returns it as chat components that can be sent to players.
+	 * <p>
+	 * <b>Do not modify the returned array!</b> It is cached if this string is simple.
+	 * 
+	 * @param e Event to pass to the expressions.
+	 * @return The input string with all expressions replaced, converted to Bungee's chat components.
+	 */
+	public BaseComponent[] getBungeeComponents(final Event e) {
+		if (isSimple) {
+			BaseComponent[] components = simpleBungeeComponents;
+			if (components == null)
+				simpleBungeeComponents = components = BungeeConverter.convert(getMessageComponents(e));
+			return components;
+		}
+		
+		return BungeeConverter.convert(getMessageComponents(e));
+	}
+	
 	/**
 	 * Parses all expressions in the string and returns it in chat JSON format.
 	 * 
@@ -555,6 +624,43 @@ public class VariableString implements Expression<String> {
 		return "" + b.toString();
 	}
 	
+	/**
+	 * Evaluates this string as a variable name, i.e. returns the same name as <tt>toString(e).toLowerCase(Locale.ENGLISH)</tt>. The literal
+	 * parts of the name are only converted to lower case once, and constant names are not evaluated again at all.
+	 * 
+	 * @param e Event to pass to the expressions.
+	 * @return The lower case variable name.
+	 */
+	public VariableName toVariableName(final Event e) {
+		if (isSimple) {
+			VariableName name = simpleVariableName;
+			if (name == null) {
+				assert simple != null;
+				simpleVariableName = name = new VariableName("" + simple.toLowerCase(Locale.ENGLISH));
+			}
+			return name;
+		}
+		if (mode != StringMode.VARIABLE_NAME)
+			return new VariableName("" + toString(e).toLowerCase(Locale.ENGLISH));
+		Object[] string = lowerCaseString;
+		if (string == null) {
+			final Object[] s = this.string;
+			assert s != null;
+			string = new Object[s.length];
+			for (int i = 0; i < s.length; i++)
+				string[i] = s[i] instanceof String ? ((String) s[i]).toLowerCase(Locale.ENGLISH) : s[i];
+			lowerCaseString = string;
+		}
+		final StringBuilder b = new StringBuilder();
+		for (final Object o : string) {
+			if (o instanceof Expression<?>)
+				b.append(Classes.toString(((Expression<?>) o).getArray(e), true, mode).toLowerCase(Locale.ENGLISH));
+			else
+				b.append(o);
+		}
+		return new VariableName("" + b.toString());
+	}
+	
 	public boolean isSimple() {
 		return isSimple;
 	}
@@ -564,7 +670,7 @@ public class VariableString implements Expression<String> {
 	}
 	
 	public VariableString setMode(final StringMode mode) {
-		if (this.mode == mode || isSimple)
+		if (this.mode == mode || isSimple && string == null)
 			return this;
 		final BlockingLogHandler h = SkriptLogger.startLogHandler(new BlockingLogHandler());
 		try {
@@ -689,9 +795,27 @@ public class VariableString implements Expression<String> {
 		return e;
 	}
 	
+	/**
+	 * Evaluates this string once if all expressions embedded in it are literals, e.g. options or numbers.
+	 * 
+	 * @return A simple VariableString with the evaluated text, or this string if it contains any non-literal expressions.
+	 */
+	@SuppressWarnings("null")
 	@Override
-	public Expression<String> simplify() {
-		return this;
+	public VariableString simplify() {
+		if (isSimple)
+			return this;
+		final Object[] string = this.string;
+		assert string != null;
+		for (final Object o : string) {
+			final Expression<?> expr = o instanceof ExpressionInfo ? ((ExpressionInfo) o).expr : o instanceof Expression ? (Expression<?>) o : null;
+			if (expr != null && (!(expr instanceof Literal) || expr instanceof UnparsedLiteral))
+				return this;
+		}
+		final VariableString folded = new VariableString(orig, string, toString(null), toUnformattedString(null), mode);
+		if (Skript.debug())
+			Skript.debug("Folded constant string " + toString(null, true) + " into " + folded.toString(null, true));
+		return folded;
 	}
 	
 	/* REMIND allow special characters?
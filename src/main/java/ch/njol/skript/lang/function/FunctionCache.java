@@ -0,0 +1,151 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.lang.function;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.metrics.Counter;
+import ch.njol.skript.metrics.MetricsRegistry;
+
+/**
+ * Remembers the results of a script function declared as <tt>cached</tt>, keyed by the function's arguments. Holds at most a given amount of
+ * results, evicting the least recently used ones, and optionally forgets results after some time.
+ * <p>
+ * Hits and misses are also counted in the metrics <tt>skript_function_cache_hits_total</tt> and <tt>skript_function_cache_misses_total</tt>,
+ * labelled with the function's name.
+ */
+final class FunctionCache {
+	
+	private final static class Key {
+		
+		private final Object[][] params;
+		private final int hash;
+		
+		Key(final Object[][] params) {
+			this.params = params;
+			hash = Arrays.deepHashCode(params);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(final @Nullable Object obj) {
+			if (obj == this)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			final Key other = (Key) obj;
+			return hash == other.hash && Arrays.deepEquals(params, other.params);
+		}
+		
+	}
+	
+	final static class Result {
+		
+		@Nullable
+		final Object[] value;
+		final long time;
+		
+		Result(final @Nullable Object[] value, final long time) {
+			this.value = value;
+			this.time = time;
+		}
+		
+	}
+	
+	private final int size;
+	/**
+	 * How long results are valid in milliseconds, or 0 if they don't expire.
+	 */
+	private final long ttl;
+	
+	private final LinkedHashMap<Key, Result> results;
+	
+	private long hits = 0, misses = 0;
+	private final Counter hitsTotal, missesTotal;
+	
+	@SuppressWarnings("serial")
+	FunctionCache(final String function, final int size, final long ttl) {
+		assert size > 0 && ttl >= 0;
+		this.size = size;
+		this.ttl = ttl;
+		hitsTotal = MetricsRegistry.counter("skript_function_cache_hits_total", "Calls of cached functions answered from the cache", "function", function);
+		missesTotal = MetricsRegistry.counter("skript_function_cache_misses_total", "Calls of cached functions that had to be executed", "function", function);
+		results = new LinkedHashMap<Key, Result>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final @Nullable Map.Entry<Key, Result> eldest) {
+				return size() > FunctionCache.this.size;
+			}
+		};
+	}
+	
+	/**
+	 * @param params The function's arguments
+	 * @return The cached result, or null if there is none.
+	 */
+	@Nullable
+	synchronized Result get(final Object[][] params) {
+		final Key key = new Key(params);
+		final Result r = results.get(key);
+		if (r == null || ttl != 0 && System.currentTimeMillis() - r.time > ttl) {
+			if (r != null)
+				results.remove(key);
+			misses++;
+			missesTotal.increment();
+			return null;
+		}
+		hits++;
+		hitsTotal.increment();
+		return r;
+	}
+	
+	/**
+	 * @param params The function's arguments. Must not be modified afterwards.
+	 * @param value The function's result. Must not be modified afterwards.
+	 */
+	synchronized void put(final Object[][] params, final @Nullable Object[] value) {
+		results.put(new Key(params), new Result(value, System.currentTimeMillis()));
+	}
+	
+	synchronized void clear() {
+		results.clear();
+	}
+	
+	synchronized long getHits() {
+		return hits;
+	}
+	
+	synchronized long getMisses() {
+		return misses;
+	}
+	
+	@Override
+	public synchronized String toString() {
+		return results.size() + "/" + size + " results, " + hits + " hits, " + misses + " misses";
+	}
+	
+}
@@ -21,6 +21,7 @@ package ch.njol.skript.lang.function;
 
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
+import org.eclipse.jdt.annotation.Nullable;
 
 public final class FunctionEvent<T> extends Event {
 	
@@ -29,6 +30,13 @@ public final class FunctionEvent<T> extends Event {
 	
 	private Function<? extends T> function;
 	
+	/**
+	 * The return value of a script function. Stored here and not in the function to allow recursive and concurrent calls.
+	 */
+	@Nullable
+	Object[] returnValue = null;
+	boolean returnValueSet = false;
+	
 	public FunctionEvent(Function<? extends T> function) {
 		this.function = function;
 	}
@@ -20,8 +20,6 @@
 package ch.njol.skript.lang.function;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.Arrays;
 
 import org.bukkit.event.Event;
 import org.eclipse.jdt.annotation.Nullable;
@@ -181,10 +179,19 @@ public class FunctionReference<T> {
 		
 		final Object[][] params = new Object[singleUberParam ? 1 : parameters.length][];
 		if (singleUberParam && parameters.length > 1) {
-			final ArrayList<Object> l = new ArrayList<>();
-			for (int i = 0; i < parameters.length; i++)
-				l.addAll(Arrays.asList(parameters[i].getArray(e))); // TODO what if an argument is not available? pass null or abort?
-			params[0] = l.toArray();
+			final Object[][] values = new Object[parameters.length][];
+			int size = 0;
+			for (int i = 0; i < parameters.length; i++) {
+				values[i] = parameters[i].getArray(e); // TODO what if an argument is not available? pass null or abort?
+				size += values[i].length;
+			}
+			final Object[] all = new Object[size];
+			int pos = 0;
+			for (final Object[] v : values) {
+				System.arraycopy(v, 0, all, pos, v.length);
+				pos += v.length;
+			}
+			params[0] = all;
 		} else {
 			for (int i = 0; i < params.length; i++)
 				params[i] = parameters[i].getArray(e); // TODO what if an argument is not available? pass null or abort?
@@ -44,6 +44,7 @@ import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.log.ParseLogHandler;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.registrations.Classes;
+import ch.njol.skript.util.Timespan;
 import ch.njol.skript.util.Utils;
 import ch.njol.util.NonNullPair;
 import ch.njol.util.StringUtils;
@@ -101,10 +102,18 @@ public abstract class Functions {
 	
 	public final static String functionNamePattern = "[\\p{IsAlphabetic}][\\p{IsAlphabetic}\\p{IsDigit}_]*";
 	
+	/**
+	 * Groups: name, parameters, return type, and the optional <tt>cached [up to %integer% results] [for %timespan%]</tt> with its size and time.
+	 */
 	@SuppressWarnings("null")
-	private final static Pattern functionPattern = Pattern.compile("function (" + functionNamePattern + ")\\((.*)\\)(?: :: (.+))?", Pattern.CASE_INSENSITIVE),
+	private final static Pattern functionPattern = Pattern.compile("function (" + functionNamePattern + ")\\((.*)\\)(?: :: (.+?))?( cached(?: up to (\\d+) results?)?(?: for (.+))?)?", Pattern.CASE_INSENSITIVE),
 			paramPattern = Pattern.compile("\\s*(.+?)\\s*:(?=[^:]*$)\\s*(.+?)(?:\\s*=\\s*(.+))?\\s*");
 	
+	/**
+	 * How many results a cached function keeps if no size is given
+	 */
+	public final static int DEFAULT_CACHE_SIZE = 1000;
+	
 	/**
 	 * Loads a function from given node.
 	 * @param node Section node.
@@ -130,9 +139,32 @@ public abstract class Functions {
 		if (Skript.debug() || node.debug())
 			Skript.debug("function " + name + "(" + StringUtils.join(params, ", ") + ")" + (c != null && p != null ? " :: " + Utils.toEnglishPlural(c.getCodeName(), p.getSecond()) : "") + ":");
 		
+		// validate the cache before the function is created, as its constructor registers it
+		final boolean cached = m.group(4) != null;
+		final int size = m.group(5) == null ? DEFAULT_CACHE_SIZE : Utils.parseInt("" + m.group(5));
+		long ttl = 0;
+		if (cached) {
+			if (size <= 0)
+				return error("A cached function must keep at least one result");
+			if (m.group(6) != null) {
+				final Timespan t = Timespan.parse("" + m.group(6));
+				if (t == null)
+					return error("'" + m.group(6) + "' is not a valid timespan");
+				ttl = Math.max(1, t.getMilliSeconds());
+			}
+		}
+		
 		@SuppressWarnings("null")
-		final Function<?> f = new ScriptFunction<>(name, params.toArray(new Parameter[params.size()]), node, (ClassInfo<Object>) c, p == null ? false : !p.getSecond());
+		final ScriptFunction<?> f = new ScriptFunction<>(name, params.toArray(new Parameter[params.size()]), node, (ClassInfo<Object>) c, p == null ? false : !p.getSecond());
 //		functions.put(name, new FunctionData(f)); // in constructor
+		if (cached) {
+			if (f.hasDelay()) {
+				functions.remove(name);
+				SkriptLogger.setNode(node);
+				return error("A function that contains a delay can't be cached, as its result is not available when the call returns.");
+			}
+			f.setCache(new FunctionCache(name, size, ttl));
+		}
 		return f;
 	}
 	
@@ -296,9 +328,21 @@ public abstract class Functions {
 				}
 			}
 		}
+		if (r != 0)
+			clearCaches(); // cached functions might have called the removed functions
 		return r;
 	}
 	
+	/**
+	 * Forgets the cached results of all script functions.
+	 */
+	public final static void clearCaches() {
+		for (final FunctionData d : functions.values()) {
+			if (d.function instanceof ScriptFunction)
+				((ScriptFunction<?>) d.function).clearCache();
+		}
+	}
+	
 	public final static void validateFunctions() {
 		for (final FunctionReference<?> c : toValidate)
 			c.validateFunction(false);
@@ -25,10 +25,12 @@ import ch.njol.skript.ScriptLoader;
 import ch.njol.skript.Skript;
 import ch.njol.skript.classes.ClassInfo;
 import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.effects.Delay;
 import ch.njol.skript.effects.EffReturn;
 import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.lang.function.Functions.FunctionData;
 import ch.njol.skript.lang.util.SimpleEvent;
+import ch.njol.skript.variables.VariableName;
 import ch.njol.skript.variables.Variables;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -40,10 +42,29 @@ public class ScriptFunction<T> extends Function<T> {
 	@Nullable
 	final Trigger trigger;
 	
+	/**
+	 * The names of the local variables single parameters are stored in, or null for parameters that accept multiple values.
+	 */
+	private final VariableName[] parameterNames;
+	
+	private boolean hasDelay = false;
+	
+	/**
+	 * The results of this function if it is declared as <tt>cached</tt>.
+	 */
+	@Nullable
+	private FunctionCache cache = null;
+	
 	@SuppressFBWarnings("ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD")
 	public ScriptFunction(final String name, final Parameter<?>[] parameters, final SectionNode node, @Nullable final ClassInfo<T> returnType, final boolean single) {
 		super(name, parameters, returnType, single);
 		
+		parameterNames = new VariableName[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			if (parameters[i].single)
+				parameterNames[i] = new VariableName(parameters[i].name);
+		}
+		
 		// here to allow recursion
 		Functions.functions.put(name, new FunctionData(this));
 		
@@ -55,35 +76,91 @@ public class ScriptFunction<T> extends Function<T> {
 		}
 	}
 	
-	private boolean returnValueSet = false;
-	@Nullable
-	private T[] returnValue = null;
+	/**
+	 * Should only be called by {@link Delay} and other effects that suspend the trigger (e.g. {@link ch.njol.skript.util.AsyncEffect AsyncEffects}) while this function is loaded.
+	 */
+	public final void setHasDelay() {
+		hasDelay = true;
+	}
+	
+	/**
+	 * @return Whether this function contains a delay
+	 */
+	public final boolean hasDelay() {
+		return hasDelay;
+	}
+	
+	final void setCache(final @Nullable FunctionCache cache) {
+		this.cache = cache;
+	}
+	
+	/**
+	 * @return Whether the results of this function are cached
+	 */
+	public final boolean isCached() {
+		return cache != null;
+	}
+	
+	/**
+	 * @return How many calls of this function were answered from its cache
+	 */
+	public final long getCacheHits() {
+		final FunctionCache cache = this.cache;
+		return cache == null ? 0 : cache.getHits();
+	}
+	
+	/**
+	 * @return How many calls of this function had to be executed despite being cached
+	 */
+	public final long getCacheMisses() {
+		final FunctionCache cache = this.cache;
+		return cache == null ? 0 : cache.getMisses();
+	}
+	
+	/**
+	 * Forgets all cached results of this function.
+	 */
+	public final void clearCache() {
+		final FunctionCache cache = this.cache;
+		if (cache != null)
+			cache.clear();
+	}
 	
 	/**
 	 * Should only be called by {@link EffReturn}.
 	 * 
-	 * @param e
+	 * @param e The event of the call to set the return value of
 	 * @param value
 	 */
-	public final void setReturnValue(final FunctionEvent e, final @Nullable T[] value) {
-		assert !returnValueSet;
-		returnValueSet = true;
-		returnValue = value;
+	public final void setReturnValue(final FunctionEvent<?> e, final @Nullable T[] value) {
+		assert !e.returnValueSet;
+		e.returnValueSet = true;
+		e.returnValue = value;
 	}
 	
 	// REMIND track possible types of local variables (including undefined variables) (consider functions, commands, and EffChange) - maybe make a general interface for this purpose
 	// REM: use patterns, e.g. {_a%b%} is like "a.*", and thus subsequent {_axyz} may be set and of that type.
+	@SuppressWarnings("unchecked")
 	@Override
 	@Nullable
 	public T[] execute(final FunctionEvent e, final Object[][] params) {
 		if (trigger == null)
 			throw new IllegalStateException("trigger for function is not available");
 		
+		final FunctionCache cache = this.cache;
+		if (cache != null) {
+			final FunctionCache.Result r = cache.get(params);
+			if (r != null)
+				return r.value == null ? null : (T[]) r.value.clone();
+		}
+		
 		for (int i = 0; i < parameters.length; i++) {
 			final Parameter<?> p = parameters[i];
 			final Object[] val = params[i];
 			if (p.single) {
-				Variables.setVariable(p.name, val[0], e, true);
+				final VariableName n = parameterNames[i];
+				assert n != null;
+				Variables.setVariable(n, val[0], e, true);
 			} else {
 				for (int j = 0; j < val.length; j++) {
 					Variables.setVariable(p.name + "::" + (j + 1), val[j], e, true);
@@ -93,8 +170,10 @@ public class ScriptFunction<T> extends Function<T> {
 		
 		assert trigger != null;
 		trigger.execute(e);
-		returnValueSet = false;
-		return returnValue;
+		final Object[] r = e.returnValue;
+		if (cache != null)
+			cache.put(params, r == null ? null : r.clone());
+		return (T[]) r;
 	}
 	
 }
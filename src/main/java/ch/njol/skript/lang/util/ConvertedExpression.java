@@ -253,7 +253,10 @@ public class ConvertedExpression<F, T> implements Expression<T> {
 	@SuppressWarnings("unchecked")
 	@Override
 	public Expression<? extends T> simplify() {
-		final Expression<? extends T> c = source.simplify().getConvertedExpression(to);
+		final Expression<? extends F> s = source.simplify();
+		if (s == source)
+			return this;
+		final Expression<? extends T> c = s.getConvertedExpression(to);
 		if (c != null)
 			return c;
 		return this;
@@ -56,9 +56,33 @@ public abstract class SimpleExpression<T> implements Expression<T> {
 	@SuppressWarnings("null")
 	protected SimpleExpression() {}
 	
+	/**
+	 * Empty arrays of the return types of expressions, as an empty array can safely be shared.
+	 */
+	private final static ClassValue<Object[]> emptyArrays = new ClassValue<Object[]>() {
+		@Override
+		protected Object[] computeValue(final @Nullable Class<?> c) {
+			assert c != null;
+			return (Object[]) Array.newInstance(c, 0);
+		}
+	};
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Single expressions should override this method if they can determine their value without allocating an array for {@link #get(Event)}.
+	 */
 	@Override
 	@Nullable
-	public final T getSingle(final Event e) {
+	public T getSingle(final Event e) {
+		return getSingleFromArray(e);
+	}
+	
+	/**
+	 * The default implementation of {@link #getSingle(Event)}, which picks the value out of {@link #getArray(Event)}.
+	 */
+	@Nullable
+	protected final T getSingleFromArray(final Event e) {
 		final T[] all = getArray(e);
 		if (all.length == 0)
 			return null;
@@ -67,57 +91,85 @@ public abstract class SimpleExpression<T> implements Expression<T> {
 		return all[0];
 	}
 	
+	@SuppressWarnings("unchecked")
+	private T[] empty() {
+		final T[] r = (T[]) emptyArrays.get(getReturnType());
+		assert r != null;
+		return r;
+	}
+	
+	/**
+	 * @return The index of the first null element in the array, or -1 if it doesn't contain any.
+	 */
+	private final static int indexOfNull(final Object[] all) {
+		for (int i = 0; i < all.length; i++) {
+			if (all[i] == null)
+				return i;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Copies the given array without its null elements.
+	 * 
+	 * @param firstNull The index of the first null element in the array
+	 */
+	@SuppressWarnings("unchecked")
+	private T[] removeNulls(final T[] all, final int firstNull) {
+		int numNonNull = firstNull;
+		for (int i = firstNull + 1; i < all.length; i++) {
+			if (all[i] != null)
+				numNonNull++;
+		}
+		if (numNonNull == 0)
+			return empty();
+		final T[] r = (T[]) Array.newInstance(getReturnType(), numNonNull);
+		assert r != null;
+		System.arraycopy(all, 0, r, 0, firstNull);
+		int i = firstNull;
+		for (int j = firstNull + 1; j < all.length; j++) {
+			if (all[j] != null)
+				r[i++] = all[j];
+		}
+		return r;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * <p>
 	 * Unlike {@link #get(Event)} you have to make sure that the this method's returned array is neither null nor contains null elements.
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public T[] getAll(final Event e) {
 		final T[] all = get(e);
-		if (all == null) {
-			final T[] r = (T[]) Array.newInstance(getReturnType(), 0);
-			assert r != null;
-			return r;
-		}
+		if (all == null)
+			return empty();
 		if (all.length == 0)
 			return all;
-		int numNonNull = 0;
-		for (final T t : all)
-			if (t != null)
-				numNonNull++;
-		if (numNonNull == all.length)
+		final int firstNull = indexOfNull(all);
+		if (firstNull == -1)
 			return all;
-		final T[] r = (T[]) Array.newInstance(getReturnType(), numNonNull);
-		assert r != null;
-		int i = 0;
-		for (final T t : all)
-			if (t != null)
-				r[i++] = t;
-		return r;
+		return removeNulls(all, firstNull);
 	}
 	
 	@SuppressWarnings("unchecked")
 	@Override
 	public final T[] getArray(final Event e) {
 		final T[] all = get(e);
-		if (all == null) {
-			final T[] r = (T[]) Array.newInstance(getReturnType(), 0);
-			assert r != null;
-			return r;
-		}
+		if (all == null)
+			return empty();
 		if (all.length == 0)
 			return all;
 		
-		int numNonNull = 0;
-		for (final T t : all)
-			if (t != null)
-				numNonNull++;
-		
 		if (!getAnd()) {
 			if (all.length == 1 && all[0] != null)
 				return all;
+			int numNonNull = 0;
+			for (final T t : all)
+				if (t != null)
+					numNonNull++;
+			if (numNonNull == 0)
+				return empty();
 			int rand = Utils.random(0, numNonNull);
 			final T[] one = (T[]) Array.newInstance(getReturnType(), 1);
 			for (final T t : all) {
@@ -132,15 +184,10 @@ public abstract class SimpleExpression<T> implements Expression<T> {
 			assert false;
 		}
 		
-		if (numNonNull == all.length)
+		final int firstNull = indexOfNull(all);
+		if (firstNull == -1)
 			return all;
-		final T[] r = (T[]) Array.newInstance(getReturnType(), numNonNull);
-		assert r != null;
-		int i = 0;
-		for (final T t : all)
-			if (t != null)
-				r[i++] = t;
-		return r;
+		return removeNulls(all, firstNull);
 	}
 	
 	/**
@@ -0,0 +1,191 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import ch.njol.skript.metrics.Counter;
+import ch.njol.skript.metrics.MetricsRegistry;
+import ch.njol.util.Closeable;
+
+/**
+ * Writes log messages to a logger in a background thread, so that logging a lot, e.g. on a high verbosity, doesn't slow down the thread
+ * that logs.
+ * <p>
+ * Messages are buffered in a bounded queue. If it is full, messages are dropped and the number of dropped messages is reported later.
+ * Errors are always written synchronously, after all buffered messages, so that they appear after the messages that led up to them.
+ */
+public final class AsyncLogSink implements Closeable {
+	
+	private final static class Record {
+		final Level level;
+		final String message;
+		
+		Record(final Level level, final String message) {
+			this.level = level;
+			this.message = message;
+		}
+	}
+	
+	private final static int BATCH_SIZE = 256;
+	
+	private final static Counter droppedTotal = MetricsRegistry.counter("skript_log_messages_dropped_total", "Log messages dropped because the log buffer was full");
+	
+	private final Logger logger;
+	private final int capacity;
+	private final ArrayBlockingQueue<Record> buffer;
+	private final AtomicLong dropped = new AtomicLong();
+	private final Thread thread;
+	
+	/**
+	 * Held while messages are taken out of the buffer and written, so that synchronous writes can't overtake buffered messages
+	 */
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final Condition notEmpty = writeLock.newCondition();
+	/**
+	 * Whether the writer thread is waiting for messages and thus has to be signalled
+	 */
+	private volatile boolean waiting = false;
+	
+	private volatile boolean closed = false;
+	
+	public AsyncLogSink(final Logger logger, final int capacity) {
+		this.logger = logger;
+		this.capacity = capacity;
+		buffer = new ArrayBlockingQueue<>(capacity);
+		thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				final List<Record> batch = new ArrayList<>(BATCH_SIZE);
+				while (!closed) {
+					writeLock.lock();
+					try {
+						if (buffer.isEmpty()) {
+							waiting = true;
+							if (buffer.isEmpty()) // checked again as a message might have been added before waiting was set
+								notEmpty.await(1, TimeUnit.SECONDS);
+							continue;
+						}
+						buffer.drainTo(batch, BATCH_SIZE);
+						write(batch);
+					} catch (final InterruptedException e) {
+						continue;
+					} finally {
+						waiting = false;
+						writeLock.unlock();
+						batch.clear();
+					}
+				}
+			}
+		}, "Skript log writer");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Queues a message to be logged. Once this sink is closed messages are written immediately.
+	 * 
+	 * @return Whether the message was logged, i.e. false if it was dropped
+	 */
+	public boolean log(final Level level, final String message) {
+		if (closed || level.intValue() >= Level.SEVERE.intValue()) {
+			writeLock.lock();
+			try {
+				flushBuffer();
+				logger.log(level, message);
+			} finally {
+				writeLock.unlock();
+			}
+			return true;
+		}
+		if (buffer.offer(new Record(level, message))) {
+			if (waiting) {
+				writeLock.lock();
+				try {
+					notEmpty.signal();
+				} finally {
+					writeLock.unlock();
+				}
+			}
+			return true;
+		}
+		dropped.incrementAndGet();
+		droppedTotal.increment();
+		return false;
+	}
+	
+	/**
+	 * Writes all buffered messages in the calling thread. Should be called before writing to the logger directly.
+	 */
+	public void flush() {
+		writeLock.lock();
+		try {
+			flushBuffer();
+		} finally {
+			writeLock.unlock();
+		}
+	}
+	
+	private void flushBuffer() {
+		if (buffer.isEmpty() && dropped.get() == 0)
+			return;
+		final List<Record> rest = new ArrayList<>(buffer.size());
+		buffer.drainTo(rest);
+		write(rest);
+	}
+	
+	void write(final List<Record> batch) {
+		final long d = dropped.getAndSet(0);
+		if (d > 0)
+			logger.warning("[Skript] " + d + " log message" + (d == 1 ? " was" : "s were") + " dropped because " + (d == 1 ? "it was" : "they were") + " logged faster than they could be written");
+		for (final Record r : batch)
+			logger.log(r.level, r.message);
+	}
+	
+	/**
+	 * Stops the background thread and writes all remaining messages.
+	 */
+	@Override
+	public void close() {
+		if (closed)
+			return;
+		closed = true;
+		thread.interrupt();
+		try {
+			thread.join(5000);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+	
+}
@@ -19,35 +19,107 @@
  */
 package ch.njol.skript.log;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
+ * A stack of log handlers, the most recently added one first.
+ * <p>
+ * Every thread has its own stack (see {@link SkriptLogger#startLogHandler(LogHandler)}), so a list is only ever modified by one thread.
+ * Handlers remember the list and position they were added at, thus checking whether a handler is in a list and removing it don't have to
+ * search the list.
+ * 
  * @author Peter Güttinger
  */
 public class HandlerList implements Iterable<LogHandler> {
 	
-	private final LinkedList<LogHandler> list = new LinkedList<>();
+	private LogHandler[] stack;
+	private int size = 0;
+	
+	public HandlerList() {
+		stack = new LogHandler[8];
+	}
+	
+	/**
+	 * Creates a copy of the given list. Handlers in the copy still belong to the original list, i.e. they can only be stopped there.
+	 * 
+	 * @param other
+	 */
+	public HandlerList(final HandlerList other) {
+		stack = Arrays.copyOf(other.stack, Math.max(8, other.size));
+		size = other.size;
+	}
 	
 	public void add(final LogHandler h) {
-		list.addFirst(h);
+		if (size == stack.length)
+			stack = Arrays.copyOf(stack, size * 2);
+		h.list = this;
+		h.index = size;
+		stack[size++] = h;
 	}
 	
+	/**
+	 * Removes the most recently added handler.
+	 * 
+	 * @return The removed handler, or null if this list is empty
+	 */
 	@Nullable
 	public LogHandler remove() {
-		return list.pop();
+		if (size == 0)
+			return null;
+		final LogHandler h = stack[--size];
+		stack[size] = null;
+		if (h.list == this)
+			h.list = null;
+		return h;
+	}
+	
+	/**
+	 * Removes the given handler and all handlers added after it.
+	 * 
+	 * @param h
+	 * @return How many handlers were added after the given one, or -1 if the handler is not in this list.
+	 */
+	public int remove(final LogHandler h) {
+		if (!contains(h))
+			return -1;
+		final int n = size - h.index - 1;
+		while (size > h.index)
+			remove();
+		return n;
 	}
 	
-	@SuppressWarnings("null")
 	@Override
 	public Iterator<LogHandler> iterator() {
-		return list.iterator();
+		return new Iterator<LogHandler>() {
+			private int i = size;
+			
+			@Override
+			public boolean hasNext() {
+				return i > 0;
+			}
+			
+			@Override
+			public LogHandler next() {
+				if (i <= 0)
+					throw new NoSuchElementException();
+				final LogHandler h = stack[--i];
+				assert h != null;
+				return h;
+			}
+			
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
 	}
 	
 	public boolean contains(final LogHandler h) {
-		return list.contains(h);
+		return h.list == this && h.index < size && stack[h.index] == h;
 	}
 	
 }
@@ -19,6 +19,8 @@
  */
 package ch.njol.skript.log;
 
+import org.eclipse.jdt.annotation.Nullable;
+
 /**
  * @author Peter Güttinger
  */
@@ -28,6 +30,14 @@ public abstract class LogHandler {
 		LOG, CACHED, DO_NOT_LOG;
 	}
 	
+	/**
+	 * The list this handler is currently in and its position there, maintained by {@link HandlerList}. The list is volatile as other
+	 * threads check it to skip handlers that have been stopped.
+	 */
+	@Nullable
+	volatile HandlerList list;
+	int index;
+	
 	/**
 	 * @param entry
 	 * @return Whether to print the specified entry or not.
@@ -0,0 +1,85 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.njol.skript.Skript;
+
+/**
+ * Limits how often a message is logged, for messages that might otherwise be repeated many times a second. Use one limiter per message:
+ * 
+ * <pre>
+ * private final LogLimiter slowWarnings = new LogLimiter(10, TimeUnit.SECONDS);
+ * ...
+ * if (tooSlow)
+ * 	slowWarnings.warning(&quot;Cannot keep up! (this warning will be repeated at most once every 10 seconds)&quot;);
+ * </pre>
+ * 
+ * Messages that are not logged are counted, and the count is appended to the next message that is logged.
+ */
+public final class LogLimiter {
+	
+	private final long interval;
+	private final AtomicLong next = new AtomicLong(System.nanoTime());
+	private final AtomicInteger suppressed = new AtomicInteger();
+	
+	public LogLimiter(final long interval, final TimeUnit unit) {
+		this.interval = unit.toNanos(interval);
+	}
+	
+	/**
+	 * @return Whether a message may be logged now. If not the message is counted as suppressed.
+	 */
+	public boolean allow() {
+		final long now = System.nanoTime();
+		final long n = next.get();
+		if (now - n < 0 || !next.compareAndSet(n, now + interval)) {
+			suppressed.incrementAndGet();
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * @return How many messages were suppressed since this method was last called
+	 */
+	public int takeSuppressed() {
+		return suppressed.getAndSet(0);
+	}
+	
+	public void warning(final String message) {
+		if (allow())
+			Skript.warning(message + suffix());
+	}
+	
+	public void error(final String message) {
+		if (allow())
+			Skript.error(message + suffix());
+	}
+	
+	private String suffix() {
+		final int s = takeSuppressed();
+		return s == 0 ? "" : " (" + s + " similar message" + (s == 1 ? " was" : "s were") + " suppressed)";
+	}
+	
+}
@@ -109,6 +109,8 @@ public class RetainingLogHandler extends LogHandler {
 		stop();
 		
 		final boolean console = recipient == Bukkit.getConsoleSender(); // log as SEVERE instead of INFO
+		if (console)
+			SkriptLogger.flush();
 		
 		boolean hasError = false;
 		for (final LogEntry e : log) {
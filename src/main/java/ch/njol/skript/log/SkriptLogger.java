@@ -54,7 +54,59 @@ public abstract class SkriptLogger {
 	@SuppressWarnings("null")
 	public final static Logger LOGGER = Bukkit.getServer() != null ? Bukkit.getLogger() : Logger.getLogger(Logger.GLOBAL_LOGGER_NAME); // cannot use Bukkit in tests
 	
-	private final static HandlerList handlers = new HandlerList();
+	@Nullable
+	private static volatile AsyncLogSink sink = null;
+	
+	/**
+	 * Enables or disables writing log messages in a background thread.
+	 * 
+	 * @param async
+	 * @param bufferSize How many messages may wait to be written before further messages are dropped
+	 */
+	public static synchronized void setAsynchronous(final boolean async, final int bufferSize) {
+		final AsyncLogSink old = sink;
+		if (old != null) {
+			if (async && old.getCapacity() == bufferSize)
+				return;
+			sink = null;
+			old.close();
+		}
+		if (async) {
+			final AsyncLogSink s = new AsyncLogSink(LOGGER, bufferSize);
+			sink = s;
+			Skript.closeOnDisable(s);
+		}
+	}
+	
+	/**
+	 * Writes all messages that are still buffered by the asynchronous log writer. Must be called before writing errors to {@link #LOGGER}
+	 * directly so that they don't appear before the messages that were logged before them.
+	 */
+	public static void flush() {
+		final AsyncLogSink s = sink;
+		if (s != null)
+			s.flush();
+	}
+	
+	private static void output(final Level level, final String message) {
+		final AsyncLogSink s = sink;
+		if (s != null)
+			s.log(level, message);
+		else
+			LOGGER.log(level, message);
+	}
+	
+	/**
+	 * Every thread has its own handler stack, as handlers are used to capture what happens while parsing, which happens in the async
+	 * loader as well as the main thread. Use {@link #copyHandlers()} and {@link #setHandlers(HandlerList)} to hand work over to another
+	 * thread.
+	 */
+	private final static ThreadLocal<HandlerList> handlers = new ThreadLocal<HandlerList>() {
+		@Override
+		protected HandlerList initialValue() {
+			return new HandlerList();
+		}
+	};
 	
 	/**
 	 * Shorthand for <tt>{@link #startLogHandler(LogHandler) startLogHandler}(new {@link RetainingLogHandler}());</tt>
@@ -99,23 +151,44 @@ public abstract class SkriptLogger {
 	 * @see RedirectingLogHandler
 	 */
 	public final static <T extends LogHandler> T startLogHandler(final T h) {
-		handlers.add(h);
+		handlers.get().add(h);
 		return h;
 	}
 	
+	/**
+	 * Copies the current thread's log handlers, so that work continued on another thread is logged to the same handlers. The copy should
+	 * be installed with {@link #setHandlers(HandlerList)} on the other thread. Handlers that get stopped in the meantime are skipped.
+	 * 
+	 * @return A copy of the current thread's handler stack
+	 */
+	public final static HandlerList copyHandlers() {
+		return new HandlerList(handlers.get());
+	}
+	
+	/**
+	 * Replaces the current thread's handler stack.
+	 * 
+	 * @param list The new handler stack, usually from {@link #copyHandlers()}
+	 * @return The previous handler stack, to be restored when done
+	 */
+	public final static HandlerList setHandlers(final HandlerList list) {
+		final HandlerList old = handlers.get();
+		handlers.set(list);
+		return old;
+	}
+	
 	final static void removeHandler(final LogHandler h) {
-		if (!handlers.contains(h))
+		final HandlerList list = h.list;
+		if (list == null)
 			return;
-		if (!h.equals(handlers.remove())) {
-			int i = 1;
-			while (!h.equals(handlers.remove()))
-				i++;
+		final int i = list.remove(h);
+		if (i > 0) {
 			LOGGER.severe("[Skript] " + i + " log handler" + (i == 1 ? " was" : "s were") + " not stopped properly! (at " + getCaller() + ") [if you're a server admin and you see this message please file a bug report at https://github.com/bensku/skript/issues if there is not already one]");
 		}
 	}
 	
 	final static boolean isStopped(final LogHandler h) {
-		return !handlers.contains(h);
+		return h.list == null;
 	}
 	
 	@Nullable
@@ -167,30 +240,57 @@ public abstract class SkriptLogger {
 	public static void log(final @Nullable LogEntry entry) {
 		if (entry == null)
 			return;
+		if (handle(entry))
+			output(entry.getLevel(), "[Skript] " + entry.getMessage());
+	}
+	
+	/**
+	 * Passes the entry to the current thread's log handlers.
+	 * 
+	 * @return Whether the entry should be printed
+	 */
+	private static boolean handle(final LogEntry entry) {
 		if (Skript.testing() && node != null && node.debug())
 			System.out.print("---> " + entry.level + "/" + ErrorQuality.get(entry.quality) + ": " + entry.getMessage() + " ::" + LogEntry.findCaller());
-		for (final LogHandler h : handlers) {
+		for (final LogHandler h : handlers.get()) {
+			if (h.list == null) // stopped in the thread that handed its handlers over
+				continue;
 			final LogResult r = h.log(entry);
 			switch (r) {
 				case CACHED:
-					return;
+					return false;
 				case DO_NOT_LOG:
 					entry.discarded("denied by " + h);
-					return;
+					return false;
 				case LOG:
 					continue;
 			}
 		}
 		entry.logged();
-		LOGGER.log(entry.getLevel(), "[Skript] " + entry.getMessage());
+		return true;
 	}
 	
+	/**
+	 * Logs all entries. Consecutive entries of the same level are printed as a single record, so that they aren't interleaved with
+	 * messages from other threads and the logger's formatting and locking is only done once.
+	 */
 	public static void logAll(final Collection<LogEntry> entries) {
+		Level level = null;
+		final StringBuilder b = new StringBuilder();
 		for (final LogEntry entry : entries) {
-			if (entry == null)
+			if (entry == null || !handle(entry))
 				continue;
-			log(entry);
+			if (level != null && !level.equals(entry.getLevel())) {
+				output(level, "" + b.toString());
+				b.setLength(0);
+			}
+			if (b.length() != 0)
+				b.append(System.lineSeparator());
+			b.append("[Skript] ").append(entry.getMessage());
+			level = entry.getLevel();
 		}
+		if (level != null)
+			output(level, "" + b.toString());
 	}
 	
 	public static void logTracked(final Level level, final String message, final ErrorQuality quality) {
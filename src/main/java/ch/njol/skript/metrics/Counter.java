@@ -0,0 +1,48 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A value that only increases, e.g. the number of executed triggers. Counters are cheap to update from any thread.
+ */
+public final class Counter extends Metric {
+	
+	private final LongAdder value = new LongAdder();
+	
+	Counter(final String name, final String help, final String... labels) {
+		super(name, help, labels);
+	}
+	
+	public void increment() {
+		value.increment();
+	}
+	
+	public void add(final long n) {
+		assert n >= 0 : n;
+		value.add(n);
+	}
+	
+	public long get() {
+		return value.sum();
+	}
+	
+}
@@ -0,0 +1,35 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.metrics;
+
+/**
+ * A value that is read when the metrics are exported, e.g. the size of a queue.
+ * <p>
+ * {@link #get()} is called from the exporter's thread, so it must be thread-safe and should be cheap.
+ */
+public abstract class Gauge extends Metric {
+	
+	public Gauge(final String name, final String help, final String... labels) {
+		super(name, help, labels);
+	}
+	
+	public abstract double get();
+	
+}
@@ -0,0 +1,91 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts observed values, e.g. durations, in buckets.
+ */
+public final class Histogram extends Metric {
+	
+	/**
+	 * Bucket bounds in seconds suitable for operations that usually take less than a second
+	 */
+	public final static double[] LATENCY_BUCKETS = {0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5};
+	
+	private final double[] bounds;
+	/**
+	 * Observations per bucket, with an additional bucket for values greater than all bounds
+	 */
+	private final LongAdder[] buckets;
+	private final DoubleAdder sum = new DoubleAdder();
+	
+	Histogram(final String name, final String help, final double[] bounds, final String... labels) {
+		super(name, help, labels);
+		for (int i = 1; i < bounds.length; i++)
+			assert bounds[i - 1] < bounds[i] : name;
+		this.bounds = bounds.clone();
+		buckets = new LongAdder[bounds.length + 1];
+		for (int i = 0; i < buckets.length; i++)
+			buckets[i] = new LongAdder();
+	}
+	
+	public void observe(final double value) {
+		int i = 0;
+		while (i < bounds.length && value > bounds[i])
+			i++;
+		buckets[i].increment();
+		sum.add(value);
+	}
+	
+	/**
+	 * Observes a duration, converted to seconds.
+	 * 
+	 * @param nanos The duration in nanoseconds, e.g. the difference of two calls to {@link System#nanoTime()}
+	 */
+	public void observeNanos(final long nanos) {
+		observe(nanos / 1e9);
+	}
+	
+	/**
+	 * @return The upper bounds of the buckets. Must not be modified.
+	 */
+	public double[] getBounds() {
+		return bounds;
+	}
+	
+	/**
+	 * @return The number of observations that are less than or equal to each bound, followed by the total number of observations
+	 */
+	public long[] getCumulativeCounts() {
+		final long[] counts = new long[buckets.length];
+		long total = 0;
+		for (int i = 0; i < buckets.length; i++)
+			counts[i] = total += buckets[i].sum();
+		return counts;
+	}
+	
+	public double getSum() {
+		return sum.sum();
+	}
+	
+}
@@ -0,0 +1,78 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.metrics;
+
+/**
+ * A named value that is reported by {@link MetricsExporter}s.
+ * <p>
+ * Metrics with the same name but different labels are separate metrics of the same family, e.g. one counter per event class.
+ * 
+ * @see MetricsRegistry
+ */
+public abstract class Metric {
+	
+	private final String name;
+	private final String help;
+	private final String[] labels;
+	
+	/**
+	 * @param name The name of this metric, e.g. <tt>skript_variable_reads_total</tt>
+	 * @param help A short description
+	 * @param labels Alternating label names and values
+	 */
+	protected Metric(final String name, final String help, final String... labels) {
+		assert labels.length % 2 == 0 : name;
+		this.name = name;
+		this.help = help;
+		this.labels = labels;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public String getHelp() {
+		return help;
+	}
+	
+	/**
+	 * @return Alternating label names and values. Must not be modified.
+	 */
+	public String[] getLabels() {
+		return labels;
+	}
+	
+	/**
+	 * @return The key this metric is registered with in the {@link MetricsRegistry}
+	 */
+	final String getKey() {
+		return getKey(name, labels);
+	}
+	
+	static String getKey(final String name, final String[] labels) {
+		if (labels.length == 0)
+			return name;
+		final StringBuilder b = new StringBuilder(name);
+		for (int i = 0; i < labels.length; i += 2)
+			b.append(i == 0 ? '{' : ',').append(labels[i]).append('=').append(labels[i + 1]);
+		return b.append('}').toString();
+	}
+	
+}
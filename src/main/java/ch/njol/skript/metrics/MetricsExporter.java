@@ -0,0 +1,37 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.metrics;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Makes metrics available to a monitoring tool. Exporters are registered with {@link MetricsRegistry#addExporter(MetricsExporter)} and are
+ * called periodically from an asynchronous thread.
+ */
+public interface MetricsExporter {
+	
+	/**
+	 * @param metrics All currently registered metrics, grouped by name
+	 * @throws IOException If the metrics could not be exported. This is logged, and the exporter is called again at the next interval.
+	 */
+	void export(Collection<Metric> metrics) throws IOException;
+	
+}
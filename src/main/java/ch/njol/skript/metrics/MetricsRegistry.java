@@ -0,0 +1,159 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptAPIException;
+import ch.njol.skript.util.Task;
+
+/**
+ * Holds all metrics of Skript and periodically passes them to the registered {@link MetricsExporter}s.
+ * <p>
+ * Metrics are identified by their name and labels. Requesting a counter or histogram that already exists returns the existing one, so
+ * callers can simply keep the returned object in a static field.
+ */
+public final class MetricsRegistry {
+	
+	private MetricsRegistry() {}
+	
+	private final static ConcurrentHashMap<String, Metric> metrics = new ConcurrentHashMap<>();
+	private final static CopyOnWriteArrayList<MetricsExporter> exporters = new CopyOnWriteArrayList<>();
+	
+	@Nullable
+	private static Task exportTask;
+	
+	/**
+	 * @return The counter with the given name and labels, which is created if it doesn't exist yet
+	 */
+	public static Counter counter(final String name, final String help, final String... labels) {
+		return get(Counter.class, new Counter(name, help, labels));
+	}
+	
+	/**
+	 * @param bounds The upper bounds of the buckets in increasing order, e.g. {@link Histogram#LATENCY_BUCKETS}
+	 * @return The histogram with the given name and labels, which is created if it doesn't exist yet
+	 */
+	public static Histogram histogram(final String name, final String help, final double[] bounds, final String... labels) {
+		return get(Histogram.class, new Histogram(name, help, bounds, labels));
+	}
+	
+	private static <T extends Metric> T get(final Class<T> type, final T metric) {
+		final Metric old = metrics.putIfAbsent(metric.getKey(), metric);
+		if (old == null)
+			return metric;
+		if (!type.isInstance(old))
+			throw new SkriptAPIException("The metric " + metric.getKey() + " is already registered as " + old.getClass().getSimpleName());
+		return type.cast(old);
+	}
+	
+	/**
+	 * Registers a metric, usually a {@link Gauge}. Replaces any metric with the same name and labels.
+	 * 
+	 * @return The given metric
+	 */
+	public static <T extends Metric> T register(final T metric) {
+		metrics.put(metric.getKey(), metric);
+		return metric;
+	}
+	
+	public static void unregister(final Metric metric) {
+		metrics.remove(metric.getKey(), metric);
+	}
+	
+	/**
+	 * @return A snapshot of all registered metrics, sorted by name
+	 */
+	public static List<Metric> getMetrics() {
+		final List<Metric> r = new ArrayList<>(metrics.values());
+		Collections.sort(r, new Comparator<Metric>() {
+			@Override
+			public int compare(final Metric m1, final Metric m2) {
+				final int c = m1.getName().compareTo(m2.getName());
+				return c != 0 ? c : m1.getKey().compareTo(m2.getKey());
+			}
+		});
+		return r;
+	}
+	
+	/**
+	 * Adds an exporter. Does nothing if an equal exporter is already registered.
+	 */
+	public static void addExporter(final MetricsExporter exporter) {
+		exporters.addIfAbsent(exporter);
+	}
+	
+	public static void removeExporter(final MetricsExporter exporter) {
+		exporters.remove(exporter);
+	}
+	
+	/**
+	 * Sets how often the metrics are exported.
+	 * 
+	 * @param ticks The interval in ticks, or 0 to stop exporting
+	 */
+	public static synchronized void setExportInterval(final long ticks) {
+		final Task t = exportTask;
+		if (t != null) {
+			if (ticks > 0) {
+				t.setPeriod(ticks);
+				return;
+			}
+			t.cancel();
+			exportTask = null;
+		} else if (ticks > 0) {
+			exportTask = new Task(Skript.getInstance(), ticks, ticks, true) {
+				@Override
+				public void run() {
+					export();
+				}
+			};
+		}
+	}
+	
+	/**
+	 * Passes the current metrics to all exporters.
+	 */
+	public static void export() {
+		if (exporters.isEmpty())
+			return;
+		final Collection<Metric> ms = Collections.unmodifiableList(getMetrics());
+		for (final MetricsExporter e : exporters) {
+			try {
+				e.export(ms);
+			} catch (final IOException ex) {
+				Skript.warning("Could not export metrics: " + ex.getLocalizedMessage());
+			} catch (final RuntimeException ex) {
+				Skript.exception(ex, "Exception while exporting metrics");
+			}
+		}
+	}
+	
+}
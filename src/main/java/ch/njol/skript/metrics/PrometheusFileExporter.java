@@ -0,0 +1,109 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Writes metrics into a file in Prometheus' text format, which can be collected by the node exporter's textfile collector or read by
+ * any other tool. The file is replaced atomically, so readers never see a partially written file.
+ */
+public class PrometheusFileExporter implements MetricsExporter {
+	
+	private final File file;
+	
+	public PrometheusFileExporter(final File file) {
+		this.file = file;
+	}
+	
+	public File getFile() {
+		return file;
+	}
+	
+	@Override
+	public void export(final Collection<Metric> metrics) throws IOException {
+		final File temp = new File(file.getPath() + ".tmp");
+		try (final Writer w = new OutputStreamWriter(Files.newOutputStream(temp.toPath()), StandardCharsets.UTF_8)) {
+			String lastName = null;
+			for (final Metric m : metrics) {
+				if (!m.getName().equals(lastName)) {
+					lastName = m.getName();
+					w.write("# HELP " + lastName + " " + m.getHelp().replace("\\", "\\\\").replace("\n", "\\n") + "\n");
+					w.write("# TYPE " + lastName + " " + (m instanceof Counter ? "counter" : m instanceof Histogram ? "histogram" : "gauge") + "\n");
+				}
+				if (m instanceof Counter) {
+					sample(w, m.getName(), m.getLabels(), null, ((Counter) m).get());
+				} else if (m instanceof Gauge) {
+					sample(w, m.getName(), m.getLabels(), null, ((Gauge) m).get());
+				} else if (m instanceof Histogram) {
+					final Histogram h = (Histogram) m;
+					final double[] bounds = h.getBounds();
+					final long[] counts = h.getCumulativeCounts();
+					for (int i = 0; i < bounds.length; i++)
+						sample(w, m.getName() + "_bucket", m.getLabels(), "" + bounds[i], counts[i]);
+					sample(w, m.getName() + "_bucket", m.getLabels(), "+Inf", counts[bounds.length]);
+					sample(w, m.getName() + "_sum", m.getLabels(), null, h.getSum());
+					sample(w, m.getName() + "_count", m.getLabels(), null, counts[bounds.length]);
+				}
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+	
+	private static void sample(final Writer w, final String name, final String[] labels, final @Nullable String le, final double value) throws IOException {
+		w.write(name);
+		if (labels.length != 0 || le != null) {
+			w.write('{');
+			for (int i = 0; i < labels.length; i += 2) {
+				if (i != 0)
+					w.write(',');
+				w.write(labels[i] + "=\"" + escape(labels[i + 1]) + "\"");
+			}
+			if (le != null)
+				w.write((labels.length == 0 ? "" : ",") + "le=\"" + le + "\"");
+			w.write('}');
+		}
+		w.write(" " + (value == (long) value ? "" + (long) value : "" + value) + "\n");
+	}
+	
+	private static String escape(final String s) {
+		return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+	
+	@Override
+	public boolean equals(final @Nullable Object obj) {
+		return obj instanceof PrometheusFileExporter && ((PrometheusFileExporter) obj).file.equals(file);
+	}
+	
+	@Override
+	public int hashCode() {
+		return file.hashCode();
+	}
+	
+}
@@ -201,6 +201,7 @@ public abstract class Classes {
 		}
 		
 		Classes.classInfos = classInfos.toArray(new ClassInfo[classInfos.size()]);
+		parserInfos = newParserInfos();
 		
 		// check for circular dependencies
 		if (!tempClassInfos.isEmpty()) {
@@ -594,19 +595,46 @@ public abstract class Classes {
 			}
 			return "[" + b.toString() + "]";
 		}
-		for (final ClassInfo<?> ci : getClassInfos()) {
+		checkAllowClassInfoInteraction();
+		final Object info = parserInfos.get(o.getClass());
+		if (info != NO_PARSER) {
+			final ClassInfo<?> ci = (ClassInfo<?>) info;
 			final Parser<?> parser = ci.getParser();
-			if (parser != null && ci.getC().isInstance(o)) {
-				@SuppressWarnings("unchecked")
-				final String s = mode == StringMode.MESSAGE ? ((Parser<T>) parser).toString(o, flags)
-						: mode == StringMode.DEBUG ? "[" + ci.getCodeName() + ":" + ((Parser<T>) parser).toString(o, mode) + "]"
-								: ((Parser<T>) parser).toString(o, mode);
-				return s;
-			}
+			assert parser != null;
+			@SuppressWarnings("unchecked")
+			final String s = mode == StringMode.MESSAGE ? ((Parser<T>) parser).toString(o, flags)
+					: mode == StringMode.DEBUG ? "[" + ci.getCodeName() + ":" + ((Parser<T>) parser).toString(o, mode) + "]"
+							: ((Parser<T>) parser).toString(o, mode);
+			return s;
 		}
 		return mode == StringMode.VARIABLE_NAME ? "object:" + o : "" + o;
 	}
 	
+	/**
+	 * Marks classes without a class info that has a parser in {@link #parserInfos}.
+	 */
+	private final static Object NO_PARSER = new Object();
+	
+	/**
+	 * The first class info that has a {@link Parser} and is a superclass of the given class, or {@link #NO_PARSER}. Used by
+	 * {@link #toString(Object, StringMode, int)}.
+	 */
+	private static volatile ClassValue<Object> parserInfos = newParserInfos();
+	
+	private final static ClassValue<Object> newParserInfos() {
+		return new ClassValue<Object>() {
+			@Override
+			protected Object computeValue(final @Nullable Class<?> c) {
+				assert c != null;
+				for (final ClassInfo<?> ci : getClassInfos()) {
+					if (ci.getParser() != null && ci.getC().isAssignableFrom(c))
+						return ci;
+				}
+				return NO_PARSER;
+			}
+		};
+	}
+	
 	public final static String toString(final Object[] os, final int flags, final boolean and) {
 		return toString(os, and, null, StringMode.MESSAGE, flags);
 	}
@@ -23,9 +23,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -34,7 +32,7 @@ import ch.njol.skript.classes.ChainedConverter;
 import ch.njol.skript.classes.Converter;
 import ch.njol.skript.classes.Converter.ConverterInfo;
 import ch.njol.skript.classes.Converter.ConverterUtils;
-import ch.njol.util.Pair;
+import ch.njol.util.coll.ClassPairCache;
 
 /**
  * @author Peter Güttinger
@@ -69,6 +67,7 @@ public abstract class Converters {
 	public static <F, T> void registerConverter(final Class<F> from, final Class<T> to, final Converter<F, T> converter, final int options) {
 		Skript.checkAcceptRegistrations();
 		final ConverterInfo<F, T> info = new ConverterInfo<F, T>(from, to, converter, options);
+		convertersCache.clear();
 		for (int i = 0; i < converters.size(); i++) {
 			final ConverterInfo<?, ?> info2 = converters.get(i);
 			if (info2.from.isAssignableFrom(from) && to.isAssignableFrom(info2.to)) {
@@ -99,6 +98,9 @@ public abstract class Converters {
 				}
 			}
 		}
+		convertersCache.clear();
+		Comparators.clearCache();
+		EventValues.clearCache();
 	}
 	
 	private final static boolean converterExistsSlow(final Class<?> from, final Class<?> to) {
@@ -218,7 +220,13 @@ public abstract class Converters {
 		return r;
 	}
 	
-	private final static Map<Pair<Class<?>, Class<?>>, Converter<?, ?>> convertersCache = new HashMap<Pair<Class<?>, Class<?>>, Converter<?, ?>>();
+	private final static ClassPairCache<Converter<?, ?>> convertersCache = new ClassPairCache<Converter<?, ?>>() {
+		@Override
+		@Nullable
+		protected Converter<?, ?> compute(final Class<?> from, final Class<?> to) {
+			return getConverter_i(from, to);
+		}
+	};
 	
 	/**
 	 * Tests whether a converter between the given classes exists.
@@ -252,12 +260,7 @@ public abstract class Converters {
 	@SuppressWarnings("unchecked")
 	@Nullable
 	public final static <F, T> Converter<? super F, ? extends T> getConverter(final Class<F> from, final Class<T> to) {
-		final Pair<Class<?>, Class<?>> p = new Pair<Class<?>, Class<?>>(from, to);
-		if (convertersCache.containsKey(p)) // can contain null to denote nonexistence of a converter
-			return (Converter<? super F, ? extends T>) convertersCache.get(p);
-		final Converter<? super F, ? extends T> c = getConverter_i(from, to);
-		convertersCache.put(p, c);
-		return c;
+		return (Converter<? super F, ? extends T>) convertersCache.get(from, to);
 	}
 	
 	@SuppressWarnings("unchecked")
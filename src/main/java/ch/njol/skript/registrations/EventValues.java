@@ -29,6 +29,7 @@ import ch.njol.skript.Skript;
 import ch.njol.skript.classes.Converter;
 import ch.njol.skript.expressions.base.EventValueExpression;
 import ch.njol.skript.util.Getter;
+import ch.njol.util.coll.ClassPairCache;
 
 /**
  * @author Peter Güttinger
@@ -73,6 +74,45 @@ public class EventValues {
 		throw new IllegalArgumentException("time must be -1, 0, or 1");
 	}
 	
+	/**
+	 * Returned by {@link #getEventValueGetter(Class, Class, int, boolean, boolean)} if the event value is excluded for the event and errors should not be printed.
+	 */
+	private final static Getter<?, ?> EXCLUDED = new Getter<Object, Event>() {
+		@Override
+		@Nullable
+		public Object get(final Event e) {
+			return null;
+		}
+	};
+	
+	private final static class GetterCache extends ClassPairCache<Getter<?, ?>> {
+		private final int time;
+		
+		GetterCache(final int time) {
+			this.time = time;
+		}
+		
+		@SuppressWarnings({"unchecked", "null"})
+		@Override
+		@Nullable
+		protected Getter<?, ?> compute(final Class<?> e, final Class<?> c) {
+			return getEventValueGetter((Class<? extends Event>) e, c, time, true, false);
+		}
+	}
+	
+	/**
+	 * Getters by concrete event class and value class, for times -1, 0 and 1 respectively.
+	 */
+	private final static GetterCache[] getterCaches = {new GetterCache(-1), new GetterCache(0), new GetterCache(1)};
+	
+	/**
+	 * Clears the cached getters, which must be done when the registered event values or converters change.
+	 */
+	final static void clearCache() {
+		for (final GetterCache cache : getterCaches)
+			cache.clear();
+	}
+	
 	/**
 	 * Registers an event value.
 	 * 
@@ -104,6 +144,7 @@ public class EventValues {
 	public static <T, E extends Event> void registerEventValue(final Class<E> e, final Class<T> c, final Getter<T, E> g, final int time, final @Nullable String excludeErrorMessage, final @Nullable Class<? extends E>... excludes) {
 		Skript.checkAcceptRegistrations();
 		final List<EventValueInfo<?, ?>> eventValues = getEventValuesList(time);
+		clearCache();
 		for (int i = 0; i < eventValues.size(); i++) {
 			final EventValueInfo<?, ?> info = eventValues.get(i);
 			if (info.event != e ? info.event.isAssignableFrom(e) : info.c.isAssignableFrom(c)) {
@@ -141,7 +182,7 @@ public class EventValues {
 	}
 	
 	/**
-	 * Returns a getter to get a value from an event.
+	 * Returns a getter to get a value from an event. Getters are cached per event class, value class and time.
 	 * <p>
 	 * Can print an error if the event value is blocked for the given event.
 	 * 
@@ -152,20 +193,25 @@ public class EventValues {
 	 * @see #registerEventValue(Class, Class, Getter, int)
 	 * @see EventValueExpression#EventValueExpression(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	@Nullable
 	public final static <T, E extends Event> Getter<? extends T, ? super E> getEventValueGetter(final Class<E> e, final Class<T> c, final int time) {
-		return EventValues.getEventValueGetter(e, c, time, true);
+		getEventValuesList(time); // checks the time
+		final Getter<?, ?> g = getterCaches[time + 1].get(e, c);
+		if (g == EXCLUDED)
+			return EventValues.getEventValueGetter(e, c, time, true, true); // prints the error
+		return (Getter<? extends T, ? super E>) g;
 	}
 	
 	@SuppressWarnings("unchecked")
 	@Nullable
-	private final static <T, E extends Event> Getter<? extends T, ? super E> getEventValueGetter(final Class<E> e, final Class<T> c, final int time, final boolean allowDefault) {
+	private final static <T, E extends Event> Getter<? extends T, ? super E> getEventValueGetter(final Class<E> e, final Class<T> c, final int time, final boolean allowDefault, final boolean printErrors) {
 		final List<EventValueInfo<?, ?>> eventValues = getEventValuesList(time);
 		boolean b;
 		for (final EventValueInfo<?, ?> ev : eventValues) {
 			if (((b = ev.event.isAssignableFrom(e)) || e.isAssignableFrom(ev.event)) && c.isAssignableFrom(ev.c)) {
-				if (!EventValues.checkExcludes(ev, e))
-					return null;
+				if (!EventValues.checkExcludes(ev, e, printErrors))
+					return printErrors ? null : (Getter<? extends T, ? super E>) EXCLUDED;
 				if (b)
 					return (Getter<? extends T, ? super E>) ev.getter;
 				return new Getter<T, E>() {
@@ -181,8 +227,8 @@ public class EventValues {
 		}
 		for (final EventValueInfo<?, ?> ev : eventValues) {
 			if (((b = ev.event.isAssignableFrom(e)) || e.isAssignableFrom(ev.event)) && ev.c.isAssignableFrom(c)) {
-				if (!EventValues.checkExcludes(ev, e))
-					return null;
+				if (!EventValues.checkExcludes(ev, e, printErrors))
+					return printErrors ? null : (Getter<? extends T, ? super E>) EXCLUDED;
 				final boolean checkInstanceOf = !b;
 				return new Getter<T, E>() {
 					@Override
@@ -200,25 +246,26 @@ public class EventValues {
 		}
 		for (final EventValueInfo<?, ?> ev : eventValues) {
 			if ((b = ev.event.isAssignableFrom(e)) || e.isAssignableFrom(ev.event)) {
-				if (!EventValues.checkExcludes(ev, e))
-					return null;
+				if (!EventValues.checkExcludes(ev, e, printErrors))
+					return printErrors ? null : (Getter<? extends T, ? super E>) EXCLUDED;
 				final Getter<? extends T, ? super E> g = (Getter<? extends T, ? super E>) getConvertedGetter(ev, c, !b);
 				if (g != null)
 					return g;
 			}
 		}
 		if (allowDefault && time != 0)
-			return getEventValueGetter(e, c, 0, false);
+			return getEventValueGetter(e, c, 0, false, printErrors);
 		return null;
 	}
 	
-	private final static boolean checkExcludes(final EventValueInfo<?, ?> ev, final Class<? extends Event> e) {
+	private final static boolean checkExcludes(final EventValueInfo<?, ?> ev, final Class<? extends Event> e, final boolean printErrors) {
 		final Class<? extends Event>[] excl = ev.exculdes;
 		if (excl == null)
 			return true;
 		for (final Class<? extends Event> ex : excl) {
 			if (ex.isAssignableFrom(e)) {
-				Skript.error(ev.excludeErrorMessage);
+				if (printErrors)
+					Skript.error(ev.excludeErrorMessage);
 				return false;
 			}
 		}
@@ -245,7 +292,7 @@ public class EventValues {
 	}
 	
 	public final static boolean doesEventValueHaveTimeStates(final Class<? extends Event> e, final Class<?> c) {
-		return getEventValueGetter(e, c, -1, false) != null || getEventValueGetter(e, c, 1, false) != null;
+		return getEventValueGetter(e, c, -1, false, true) != null || getEventValueGetter(e, c, 1, false, true) != null;
 	}
 	
 }
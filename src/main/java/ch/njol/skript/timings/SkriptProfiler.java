@@ -0,0 +1,331 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.timings;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.event.Event;
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.lang.Trigger;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.util.Closeable;
+
+/**
+ * Skript's own profiler, controlled with <tt>/skript profile start|stop|dump</tt>.
+ * <p>
+ * While running, it measures the time, number of calls and allocated memory of every trigger item, trigger and event, and samples which
+ * item the main thread is currently executing. All counters are lock-free, and when the profiler is off the only cost is a check of a
+ * volatile field per executed item.
+ * <p>
+ * Times and allocations are inclusive, i.e. a statement calling a function includes the time spent in the function.
+ */
+public final class SkriptProfiler {
+	
+	private SkriptProfiler() {}
+	
+	/**
+	 * How often the main thread is sampled, in milliseconds
+	 */
+	private final static int SAMPLE_INTERVAL = 10;
+	
+	/**
+	 * Counters of a single item, trigger or event.
+	 */
+	private final static class Stats {
+		
+		final String label;
+		final LongAdder calls = new LongAdder(), nanos = new LongAdder(), bytes = new LongAdder(), samples = new LongAdder();
+		
+		Stats(final String label) {
+			this.label = label;
+		}
+		
+	}
+	
+	/**
+	 * An item that is currently executed by some thread.
+	 */
+	public final static class Frame {
+		
+		@Nullable
+		final Frame parent;
+		final Stats stats;
+		@Nullable
+		final Stats eventStats;
+		final long startNanos, startBytes;
+		
+		Frame(final @Nullable Frame parent, final Stats stats, final @Nullable Stats eventStats, final long startNanos, final long startBytes) {
+			this.parent = parent;
+			this.stats = stats;
+			this.eventStats = eventStats;
+			this.startNanos = startNanos;
+			this.startBytes = startBytes;
+		}
+		
+	}
+	
+	private static volatile boolean enabled = false;
+	
+	private final static ConcurrentHashMap<TriggerItem, Stats> items = new ConcurrentHashMap<>();
+	private final static ConcurrentHashMap<Trigger, Stats> triggers = new ConcurrentHashMap<>();
+	private final static ConcurrentHashMap<Class<?>, Stats> events = new ConcurrentHashMap<>();
+	/**
+	 * Samples per stack, in the 'folded' format of flame graph tools
+	 */
+	private final static ConcurrentHashMap<String, LongAdder> stacks = new ConcurrentHashMap<>();
+	
+	private final static ThreadLocal<Frame> currentFrame = new ThreadLocal<>();
+	@Nullable
+	private static volatile Frame mainFrame;
+	@Nullable
+	private static volatile Thread mainThread;
+	@Nullable
+	private static Thread sampler;
+	private static long startTime, runningTime;
+	private static boolean registeredClose = false;
+	
+	@Nullable
+	private final static com.sun.management.ThreadMXBean threadBean;
+	static {
+		com.sun.management.ThreadMXBean bean = null;
+		try {
+			final java.lang.management.ThreadMXBean b = ManagementFactory.getThreadMXBean();
+			if (b instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) b).isThreadAllocatedMemorySupported()) {
+				bean = (com.sun.management.ThreadMXBean) b;
+				bean.setThreadAllocatedMemoryEnabled(true);
+			}
+		} catch (final LinkageError | UnsupportedOperationException e) {
+			bean = null; // not running on a HotSpot based JVM, allocations won't be measured
+		}
+		threadBean = bean;
+	}
+	
+	/**
+	 * @return Whether the profiler is running
+	 */
+	public static boolean enabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Clears all previous results and starts profiling. Must be called from the main thread.
+	 */
+	public static synchronized void start() {
+		if (enabled)
+			return;
+		items.clear();
+		triggers.clear();
+		events.clear();
+		stacks.clear();
+		mainThread = Thread.currentThread();
+		startTime = System.currentTimeMillis();
+		runningTime = 0;
+		final Thread s = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					while (!Thread.interrupted()) {
+						Thread.sleep(SAMPLE_INTERVAL);
+						sample();
+					}
+				} catch (final InterruptedException e) {}
+			}
+		}, "Skript profiler");
+		s.setDaemon(true);
+		sampler = s;
+		enabled = true;
+		s.start();
+		if (!registeredClose) {
+			Skript.closeOnDisable(new Closeable() {
+				@Override
+				public void close() {
+					stop();
+				}
+			});
+			registeredClose = true;
+		}
+	}
+	
+	/**
+	 * Stops profiling. The results are kept until the profiler is started again.
+	 */
+	public static synchronized void stop() {
+		if (!enabled)
+			return;
+		enabled = false;
+		runningTime += System.currentTimeMillis() - startTime;
+		final Thread s = sampler;
+		if (s != null)
+			s.interrupt();
+		sampler = null;
+		mainThread = null;
+		mainFrame = null;
+	}
+	
+	private static long allocatedBytes() {
+		final com.sun.management.ThreadMXBean bean = threadBean;
+		return bean == null ? 0 : bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	private static Frame push(final Stats stats, final @Nullable Stats eventStats) {
+		final Frame f = new Frame(currentFrame.get(), stats, eventStats, System.nanoTime(), allocatedBytes());
+		currentFrame.set(f);
+		if (Thread.currentThread() == mainThread)
+			mainFrame = f;
+		return f;
+	}
+	
+	/**
+	 * Starts measuring a trigger item. Must be followed by {@link #exit(Frame)} in a finally block.
+	 */
+	public static Frame enter(final TriggerItem item) {
+		Stats stats = items.get(item);
+		if (stats == null) {
+			final Trigger t = item.getTrigger();
+			final File script = t == null ? null : t.getScript();
+			final String label = (script == null ? "<unknown>" : script.getName()) + ":" + item.getLineNumber() + " " + item.toString();
+			final Stats old = items.putIfAbsent(item, stats = new Stats(label));
+			if (old != null)
+				stats = old;
+		}
+		return push(stats, null);
+	}
+	
+	/**
+	 * Starts measuring the execution of a trigger. Must be followed by {@link #exit(Frame)} in a finally block.
+	 */
+	public static Frame enter(final Trigger trigger, final Event e) {
+		Stats stats = triggers.get(trigger);
+		if (stats == null) {
+			final Stats old = triggers.putIfAbsent(trigger, stats = new Stats(trigger.getDebugLabel()));
+			if (old != null)
+				stats = old;
+		}
+		Stats eventStats = events.get(e.getClass());
+		if (eventStats == null) {
+			final Stats old = events.putIfAbsent(e.getClass(), eventStats = new Stats("" + e.getClass().getSimpleName()));
+			if (old != null)
+				eventStats = old;
+		}
+		return push(stats, eventStats);
+	}
+	
+	public static void exit(final Frame f) {
+		final long nanos = System.nanoTime() - f.startNanos, bytes = allocatedBytes() - f.startBytes;
+		final Frame parent = f.parent;
+		if (parent == null)
+			currentFrame.remove();
+		else
+			currentFrame.set(parent);
+		if (Thread.currentThread() == mainThread)
+			mainFrame = parent;
+		record(f.stats, nanos, bytes);
+		if (f.eventStats != null)
+			record(f.eventStats, nanos, bytes);
+	}
+	
+	private static void record(final Stats stats, final long nanos, final long bytes) {
+		stats.calls.increment();
+		stats.nanos.add(nanos);
+		stats.bytes.add(bytes);
+	}
+	
+	static void sample() {
+		final Frame top = mainFrame;
+		if (top == null)
+			return;
+		top.stats.samples.increment();
+		final StringBuilder b = new StringBuilder();
+		for (Frame f = top; f != null; f = f.parent) {
+			final String label = f.stats.label.replace(';', ',');
+			b.insert(0, f.eventStats == null ? label : f.eventStats.label + ";" + label);
+			if (f.parent != null)
+				b.insert(0, ';');
+		}
+		final String stack = b.toString();
+		LongAdder count = stacks.get(stack);
+		if (count == null) {
+			final LongAdder old = stacks.putIfAbsent(stack, count = new LongAdder());
+			if (old != null)
+				count = old;
+		}
+		count.increment();
+	}
+	
+	/**
+	 * Writes the results collected so far into the given folder: a flat report (<tt>.txt</tt>) and the sampled stacks in the folded format
+	 * used by flame graph tools (<tt>.folded</tt>).
+	 * 
+	 * @return The report file
+	 */
+	public static synchronized File dump(final File folder) throws IOException {
+		folder.mkdirs();
+		final String name = "profile-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+		final File report = new File(folder, name + ".txt");
+		final long time = runningTime + (enabled ? System.currentTimeMillis() - startTime : 0);
+		try (final PrintWriter w = new PrintWriter(report, "UTF-8")) {
+			w.println("Skript profile, " + time / 1000.0 + " seconds" + (threadBean == null ? " (allocations are not available on this JVM)" : ""));
+			w.println("Times and allocations are inclusive. Samples are taken every " + SAMPLE_INTERVAL + " ms from the main thread.");
+			write(w, "Events", events.values());
+			write(w, "Triggers", triggers.values());
+			write(w, "Trigger items", items.values());
+		}
+		try (final PrintWriter w = new PrintWriter(new File(folder, name + ".folded"), "UTF-8")) {
+			for (final Map.Entry<String, LongAdder> e : stacks.entrySet())
+				w.println(e.getKey() + " " + e.getValue().sum());
+		}
+		return report;
+	}
+	
+	private static void write(final PrintWriter w, final String title, final Iterable<Stats> stats) {
+		final List<Stats> sorted = new ArrayList<>();
+		for (final Stats s : stats)
+			sorted.add(s);
+		Collections.sort(sorted, new Comparator<Stats>() {
+			@Override
+			public int compare(final Stats s1, final Stats s2) {
+				return Long.compare(s2.nanos.sum(), s1.nanos.sum());
+			}
+		});
+		w.println();
+		w.println("== " + title + " ==");
+		w.println(String.format(Locale.ENGLISH, "%12s %10s %12s %12s %8s  %s", "total ms", "calls", "avg us", "alloc KiB", "samples", "name"));
+		for (final Stats s : sorted) {
+			final long calls = s.calls.sum(), nanos = s.nanos.sum();
+			w.println(String.format(Locale.ENGLISH, "%12.3f %10d %12.3f %12d %8d  %s", nanos / 1e6, calls, calls == 0 ? 0 : nanos / 1e3 / calls, s.bytes.sum() / 1024, s.samples.sum(), s.label));
+		}
+	}
+	
+}
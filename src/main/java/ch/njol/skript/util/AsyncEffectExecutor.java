@@ -0,0 +1,220 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.util;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.metrics.Gauge;
+import ch.njol.skript.metrics.MetricsRegistry;
+import ch.njol.util.Closeable;
+
+/**
+ * Runs {@link AsyncEffect}s on a bounded thread pool.
+ * <p>
+ * Effects of different trigger executions run concurrently, while the effects of one execution run in order, as an execution only
+ * continues after its effect completed. The number of effects waiting to run is limited. Triggers are resumed on the main thread in
+ * batches, i.e. all effects that completed since the last tick are continued by a single task.
+ */
+public final class AsyncEffectExecutor implements Closeable {
+	
+	/**
+	 * What to do with an effect if too many effects are already waiting to run.
+	 */
+	public static enum OverflowPolicy {
+		/**
+		 * Run the effect synchronously in the calling thread
+		 */
+		RUN,
+		/**
+		 * Skip the effect and continue the trigger
+		 */
+		SKIP;
+	}
+	
+	@Nullable
+	private static volatile AsyncEffectExecutor instance;
+	static {
+		MetricsRegistry.register(new Gauge("skript_async_effects_queued", "Asynchronous effects running or waiting to run") {
+			@Override
+			public double get() {
+				final AsyncEffectExecutor i = instance;
+				return i == null ? 0 : i.getQueued();
+			}
+		});
+		// registered once for all executors created by reloads
+		Skript.closeOnDisable(new Closeable() {
+			@Override
+			public void close() {
+				final AsyncEffectExecutor i = instance;
+				if (i != null)
+					i.close();
+			}
+		});
+	}
+	
+	private static int threads = 4;
+	private static int maxQueued = 1000;
+	private static OverflowPolicy overflowPolicy = OverflowPolicy.RUN;
+	
+	/**
+	 * @return The executor that runs asynchronous effects
+	 */
+	public static synchronized AsyncEffectExecutor getInstance() {
+		AsyncEffectExecutor i = instance;
+		if (i == null)
+			instance = i = new AsyncEffectExecutor(threads, maxQueued, overflowPolicy);
+		return i;
+	}
+	
+	/**
+	 * Changes the settings of the executor. An executor that already exists finishes its queued effects and is replaced by a new one.
+	 */
+	public static synchronized void configure(final int threads, final int maxQueued, final OverflowPolicy overflowPolicy) {
+		if (threads == AsyncEffectExecutor.threads && maxQueued == AsyncEffectExecutor.maxQueued && overflowPolicy == AsyncEffectExecutor.overflowPolicy)
+			return;
+		AsyncEffectExecutor.threads = threads;
+		AsyncEffectExecutor.maxQueued = maxQueued;
+		AsyncEffectExecutor.overflowPolicy = overflowPolicy;
+		final AsyncEffectExecutor old = instance;
+		if (old != null) {
+			instance = null;
+			old.pool.shutdown();
+		}
+	}
+	
+	private final ThreadPoolExecutor pool;
+	private final int maxQueuedEffects;
+	private final OverflowPolicy policy;
+	
+	/**
+	 * Effects that have been submitted but did not finish yet
+	 */
+	private final AtomicInteger queued = new AtomicInteger();
+	
+	private final ConcurrentLinkedQueue<Runnable> continuations = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean resumeScheduled = new AtomicBoolean(false);
+	private final Runnable resume = new Runnable() {
+		@Override
+		public void run() {
+			resumeScheduled.set(false);
+			Runnable r;
+			while ((r = continuations.poll()) != null)
+				r.run();
+		}
+	};
+	
+	private AsyncEffectExecutor(final int threads, final int maxQueued, final OverflowPolicy policy) {
+		final AtomicInteger threadNumber = new AtomicInteger();
+		pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+			@Override
+			public Thread newThread(final @Nullable Runnable r) {
+				final Thread t = new Thread(r, "Skript async effect thread #" + threadNumber.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		pool.allowCoreThreadTimeOut(true);
+		maxQueuedEffects = maxQueued;
+		this.policy = policy;
+	}
+	
+	/**
+	 * Submits an effect to run asynchronously.
+	 * 
+	 * @param task The effect to run
+	 * @return Whether the effect was accepted. If false, the caller has to handle the effect as defined by {@link #getOverflowPolicy()}.
+	 */
+	public boolean submit(final Runnable task) {
+		if (pool.isShutdown())
+			return false;
+		if (queued.incrementAndGet() > maxQueuedEffects) {
+			queued.decrementAndGet();
+			return false;
+		}
+		final Runnable r = new Runnable() {
+			@Override
+			public void run() {
+				try {
+					task.run();
+				} catch (final Exception e) {
+					Skript.exception(e, "Exception in an asynchronous effect");
+				} finally {
+					queued.decrementAndGet();
+				}
+			}
+		};
+		try {
+			pool.execute(r);
+		} catch (final RejectedExecutionException e) { // the executor has been replaced or Skript is being disabled
+			r.run();
+		}
+		return true;
+	}
+	
+	/**
+	 * Runs a task on the main thread in the next tick, together with all other tasks passed to this method since the last tick.
+	 * 
+	 * @param task The task to run, usually the continuation of a trigger
+	 */
+	public void resume(final Runnable task) {
+		continuations.add(task);
+		if (resumeScheduled.compareAndSet(false, true))
+			TimingWheel.getInstance().schedule(resume, 1);
+	}
+	
+	/**
+	 * @return What to do with effects that were not accepted by {@link #submit(Runnable)}
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return policy;
+	}
+	
+	/**
+	 * @return How many effects are currently running or waiting to run
+	 */
+	public int getQueued() {
+		return queued.get();
+	}
+	
+	/**
+	 * Waits a few seconds for running effects to finish. Called when Skript is disabled.
+	 */
+	@Override
+	public void close() {
+		pool.shutdown();
+		try {
+			pool.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		continuations.clear();
+	}
+	
+}
@@ -19,27 +19,154 @@
  */
 package ch.njol.skript.util;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.bukkit.Chunk;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.eclipse.jdt.annotation.Nullable;
 
 import ch.njol.skript.Skript;
-import ch.njol.util.NullableChecker;
-import ch.njol.util.coll.iterator.CheckedIterator;
+import ch.njol.util.Math2;
 
 /**
+ * Iterates over all blocks whose centre is within a sphere, one chunk after another.
+ * <p>
+ * The blocks in the sphere are calculated for a whole row of blocks at once, thus no block outside the sphere is visited and no
+ * {@link Location}s are created. Chunks that don't intersect the sphere are skipped, and blocks are taken from their chunk directly.
+ * 
  * @author Peter Güttinger
  */
-public class BlockSphereIterator extends CheckedIterator<Block> {
+public class BlockSphereIterator implements Iterator<Block> {
+	
+	private final World world;
+	private final double cx, cy, cz, rSquared;
+	private final int minX, maxX, minY, maxY, minZ, maxZ;
+	
+	private int chunkX, chunkZ;
+	@Nullable
+	private Chunk chunk = null;
+	private int chunkMinX, chunkMaxX, chunkMinZ, chunkMaxZ;
 	
+	private int x = 0, y, z, rowEnd = -1;
+	
+	@Nullable
+	private Block next = null;
+	
+	@SuppressWarnings("null")
 	public BlockSphereIterator(final Location center, final double radius) {
-		super(new AABB(center, radius + 0.5001, radius + 0.5001, radius + 0.5001).iterator(), new NullableChecker<Block>() {
-			private final double rSquared = radius * radius * Skript.EPSILON_MULT;
-			
-			@Override
-			public boolean check(final @Nullable Block b) {
-				return b != null && center.distanceSquared(b.getLocation().add(0.5, 0.5, 0.5)) < rSquared;
+		world = center.getWorld();
+		cx = center.getX();
+		cy = center.getY();
+		cz = center.getZ();
+		rSquared = radius * radius * Skript.EPSILON_MULT;
+		minX = Math2.floorI(cx - radius - 0.5);
+		maxX = Math2.ceilI(cx + radius);
+		minY = Math.max(0, Math2.floorI(cy - radius - 0.5));
+		maxY = Math.min(world.getMaxHeight() - 1, Math2.ceilI(cy + radius));
+		minZ = Math2.floorI(cz - radius - 0.5);
+		maxZ = Math2.ceilI(cz + radius);
+		chunkX = minX >> 4;
+		chunkZ = (minZ >> 4) - 1;
+		y = minY;
+		z = minZ;
+		if (minY <= maxY)
+			findNext();
+	}
+	
+	/**
+	 * @return The distance of c to the closest block centre between min and max
+	 */
+	private static double distance(final double c, final int min, final int max) {
+		return c < min + 0.5 ? min + 0.5 - c : c > max + 0.5 ? c - max - 0.5 : 0;
+	}
+	
+	private boolean nextChunk() {
+		while (true) {
+			if (++chunkZ > maxZ >> 4) {
+				chunkZ = minZ >> 4;
+				if (++chunkX > maxX >> 4)
+					return false;
+			}
+			chunkMinX = Math.max(minX, chunkX << 4);
+			chunkMaxX = Math.min(maxX, (chunkX << 4) + 15);
+			chunkMinZ = Math.max(minZ, chunkZ << 4);
+			chunkMaxZ = Math.min(maxZ, (chunkZ << 4) + 15);
+			final double dx = distance(cx, chunkMinX, chunkMaxX), dz = distance(cz, chunkMinZ, chunkMaxZ);
+			if (dx * dx + dz * dz >= rSquared)
+				continue;
+			chunk = world.getChunkAt(chunkX, chunkZ);
+			y = minY;
+			z = chunkMinZ - 1;
+			return true;
+		}
+	}
+	
+	/**
+	 * Finds the next row of blocks in the sphere in the current chunk.
+	 */
+	private boolean nextRow() {
+		while (true) {
+			if (++z > chunkMaxZ) {
+				z = chunkMinZ;
+				if (++y > maxY)
+					return false;
 			}
-		});
+			final double dy = y + 0.5 - cy, dz = z + 0.5 - cz;
+			final double rest = rSquared - dy * dy - dz * dz;
+			if (rest <= 0)
+				continue;
+			final double w = Math.sqrt(rest);
+			int start = Math2.ceilI(cx - 0.5 - w), end = Math2.floorI(cx - 0.5 + w);
+			if (square(start + 0.5 - cx) >= rest)
+				start++;
+			if (square(end + 0.5 - cx) >= rest)
+				end--;
+			x = Math.max(start, chunkMinX);
+			rowEnd = Math.min(end, chunkMaxX);
+			if (x <= rowEnd)
+				return true;
+		}
 	}
+	
+	private static double square(final double d) {
+		return d * d;
+	}
+	
+	private void findNext() {
+		while (x > rowEnd) {
+			if (chunk == null || !nextRow()) {
+				if (!nextChunk()) {
+					next = null;
+					return;
+				}
+			}
+		}
+		final Chunk c = chunk;
+		assert c != null;
+		next = c.getBlock(x & 15, y, z & 15);
+		x++;
+	}
+	
+	@Override
+	public boolean hasNext() {
+		return next != null;
+	}
+	
+	@Override
+	public Block next() {
+		final Block b = next;
+		if (b == null)
+			throw new NoSuchElementException();
+		findNext();
+		return b;
+	}
+	
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+	
 }
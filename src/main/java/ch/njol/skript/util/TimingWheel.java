@@ -0,0 +1,287 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.util;
+
+import java.util.ArrayList;
+
+import org.bukkit.Bukkit;
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.metrics.Gauge;
+import ch.njol.skript.metrics.MetricsRegistry;
+import ch.njol.util.Closeable;
+
+/**
+ * A hashed timing wheel that runs tasks on Bukkit's main thread after a given amount of ticks. All tasks are driven by a single repeating
+ * Bukkit task, which keeps scripts that wait in many triggers at once from flooding Bukkit's scheduler.
+ * <p>
+ * Scheduling and cancelling a task are O(1), and tasks that are due in the same tick run in the order they were scheduled in.
+ */
+public final class TimingWheel implements Closeable {
+	
+	/**
+	 * A task scheduled in a {@link TimingWheel}.
+	 */
+	public final static class Entry {
+		
+		private final TimingWheel wheel;
+		final Runnable task;
+		/**
+		 * The period of a repeating task in ticks, or -1 if this task only runs once
+		 */
+		final long period;
+		
+		/**
+		 * How often the wheel has to turn before this task is due
+		 */
+		long rounds;
+		/**
+		 * The slot this task is currently in, or -1 if it's not scheduled
+		 */
+		int slot = -1;
+		@Nullable
+		Entry prev, next;
+		boolean cancelled = false;
+		
+		Entry(final TimingWheel wheel, final Runnable task, final long period) {
+			this.wheel = wheel;
+			this.task = task;
+			this.period = period;
+		}
+		
+		/**
+		 * Cancels this task. Does nothing if it already ran or was cancelled.
+		 */
+		public void cancel() {
+			wheel.cancel(this);
+		}
+		
+		/**
+		 * @return Whether this task will run (again)
+		 */
+		public boolean isScheduled() {
+			synchronized (wheel) {
+				return !cancelled && (slot != -1 || period != -1);
+			}
+		}
+		
+	}
+	
+	private final static TimingWheel instance = new TimingWheel(512, true);
+	static {
+		MetricsRegistry.register(new Gauge("skript_scheduled_tasks", "Delays and periodical events waiting to run") {
+			@Override
+			public double get() {
+				return instance.getPending();
+			}
+		});
+	}
+	
+	/**
+	 * @return The timing wheel that runs Skript's delays and periodical events
+	 */
+	public static TimingWheel getInstance() {
+		return instance;
+	}
+	
+	private final Entry[] heads, tails;
+	private final int mask;
+	
+	/**
+	 * Whether this wheel is driven by a Bukkit task. If false, {@link #tick()} has to be called manually.
+	 */
+	private final boolean bukkitTask;
+	private int taskID = -1;
+	private boolean registeredClose = false;
+	
+	/**
+	 * The number of the tick that was processed last
+	 */
+	private long tick = 0;
+	private int pending = 0;
+	
+	/**
+	 * Reused by {@link #tick()}, which is only called from one thread.
+	 */
+	private final ArrayList<Entry> due = new ArrayList<>();
+	
+	/**
+	 * @param slots The number of slots, must be a power of two
+	 * @param bukkitTask Whether to drive this wheel with a Bukkit task
+	 */
+	TimingWheel(final int slots, final boolean bukkitTask) {
+		assert slots > 0 && Integer.bitCount(slots) == 1 : slots;
+		heads = new Entry[slots];
+		tails = new Entry[slots];
+		mask = slots - 1;
+		this.bukkitTask = bukkitTask;
+	}
+	
+	/**
+	 * Runs a task once after the given delay.
+	 * 
+	 * @param task The task to run
+	 * @param delay The delay in ticks. Delays less than one tick run in the next tick.
+	 * @return The scheduled task, which can be used to cancel it
+	 */
+	public Entry schedule(final Runnable task, final long delay) {
+		return schedule(task, delay, -1);
+	}
+	
+	/**
+	 * Runs a task repeatedly.
+	 * 
+	 * @param task The task to run
+	 * @param delay The delay in ticks before the task runs the first time. Delays less than one tick run in the next tick.
+	 * @param period The period in ticks, or -1 to only run the task once
+	 * @return The scheduled task, which can be used to cancel it
+	 */
+	public synchronized Entry schedule(final Runnable task, final long delay, final long period) {
+		assert period == -1 || period > 0 : period;
+		final Entry e = new Entry(this, task, period);
+		add(e, delay);
+		if (bukkitTask && taskID == -1)
+			start();
+		return e;
+	}
+	
+	/**
+	 * @return How many tasks are currently waiting to run
+	 */
+	public synchronized int getPending() {
+		return pending;
+	}
+	
+	private void add(final Entry e, final long delay) {
+		final long d = delay < 1 ? 1 : delay;
+		final int slot = (int) ((tick + d) & mask);
+		e.rounds = (d - 1) / heads.length;
+		e.slot = slot;
+		final Entry tail = tails[slot];
+		e.prev = tail;
+		e.next = null;
+		if (tail == null)
+			heads[slot] = e;
+		else
+			tail.next = e;
+		tails[slot] = e;
+		pending++;
+	}
+	
+	private void remove(final Entry e) {
+		assert e.slot != -1;
+		final Entry prev = e.prev, next = e.next;
+		if (prev == null)
+			heads[e.slot] = next;
+		else
+			prev.next = next;
+		if (next == null)
+			tails[e.slot] = prev;
+		else
+			next.prev = prev;
+		e.prev = e.next = null;
+		e.slot = -1;
+		pending--;
+	}
+	
+	synchronized void cancel(final Entry e) {
+		e.cancelled = true;
+		if (e.slot != -1)
+			remove(e);
+	}
+	
+	/**
+	 * Advances this wheel by one tick and runs all tasks that are due.
+	 */
+	void tick() {
+		final ArrayList<Entry> due = this.due;
+		synchronized (this) {
+			tick++;
+			Entry e = heads[(int) (tick & mask)];
+			while (e != null) {
+				final Entry next = e.next;
+				if (e.rounds > 0) {
+					e.rounds--;
+				} else {
+					remove(e);
+					due.add(e);
+				}
+				e = next;
+			}
+		}
+		try {
+			for (final Entry e : due) {
+				synchronized (this) {
+					if (e.cancelled)
+						continue;
+				}
+				try {
+					e.task.run();
+				} catch (final Throwable t) { // also errors, e.g. from addons, to not drop the other tasks of this tick
+					Skript.exception(t, "Exception in a scheduled task");
+				}
+				if (e.period != -1) {
+					synchronized (this) {
+						if (!e.cancelled)
+							add(e, e.period);
+					}
+				}
+			}
+		} finally {
+			due.clear();
+		}
+	}
+	
+	@SuppressWarnings("null")
+	private void start() {
+		taskID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Skript.getInstance(), new Runnable() {
+			@Override
+			public void run() {
+				tick();
+			}
+		}, 1, 1);
+		if (!registeredClose) {
+			Skript.closeOnDisable(this);
+			registeredClose = true;
+		}
+	}
+	
+	/**
+	 * Drops all scheduled tasks. Called when Skript is disabled, which also stops the Bukkit task.
+	 */
+	@Override
+	public synchronized void close() {
+		for (int i = 0; i < heads.length; i++) {
+			Entry e = heads[i];
+			while (e != null) {
+				final Entry next = e.next;
+				e.cancelled = true;
+				e.prev = e.next = null;
+				e.slot = -1;
+				e = next;
+			}
+			heads[i] = tails[i] = null;
+		}
+		pending = 0;
+		taskID = -1;
+	}
+	
+}
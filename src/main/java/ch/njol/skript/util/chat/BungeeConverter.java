@@ -19,6 +19,8 @@
  */
 package ch.njol.skript.util.chat;
 
+import java.util.List;
+
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.ClickEvent;
@@ -62,4 +64,14 @@ public class BungeeConverter {
 		
 		return bases;
 	}
+	
+	@SuppressWarnings("null")
+	public static BaseComponent[] convert(List<MessageComponent> origins) {
+		BaseComponent[] bases = new BaseComponent[origins.size()];
+		for (int i = 0; i < bases.length; i++) {
+			bases[i] = convert(origins.get(i));
+		}
+		
+		return bases;
+	}
 }
@@ -26,6 +26,7 @@ import java.sql.SQLException;
 import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import lib.PatPeter.SQLibrary.Database;
 import lib.PatPeter.SQLibrary.DatabaseException;
@@ -41,7 +42,10 @@ import ch.njol.skript.Skript;
 import ch.njol.skript.classes.ClassInfo;
 import ch.njol.skript.classes.Serializer;
 import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.log.LogLimiter;
 import ch.njol.skript.log.SkriptLogger;
+import ch.njol.skript.metrics.Histogram;
+import ch.njol.skript.metrics.MetricsRegistry;
 import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.util.Task;
 import ch.njol.skript.util.Timespan;
@@ -348,19 +352,21 @@ public class DatabaseStorage extends VariablesStorage {
 						Thread.sleep(monitor_interval);
 					} catch (final InterruptedException e1) {}
 
-					long lastWarning = Long.MIN_VALUE;
 					final int WARING_INTERVAL = 10;
+					final LogLimiter warnings = new LogLimiter(WARING_INTERVAL, TimeUnit.SECONDS);
+					final Histogram checkTime = MetricsRegistry.histogram("skript_database_monitor_seconds", "Time taken to load changes made by other servers", Histogram.LATENCY_BUCKETS, "database", databaseName);
 
 					while (!closed) {
 						final long next = System.currentTimeMillis() + monitor_interval;
+						final long start = System.nanoTime();
 						checkDatabase();
+						checkTime.observeNanos(System.nanoTime() - start);
 						final long now = System.currentTimeMillis();
-						if (next < now && lastWarning + WARING_INTERVAL * 1000 < now) {
+						if (next < now) {
 							// TODO don't print this message when Skript loads (because scripts are loaded after variables and take some time)
-							Skript.warning("Cannot load variables from the database fast enough (loading took " + ((now - next + monitor_interval) / 1000.) + "s, monitor interval = " + (monitor_interval / 1000.) + "s). " +
+							warnings.warning("Cannot load variables from the database fast enough (loading took " + ((now - next + monitor_interval) / 1000.) + "s, monitor interval = " + (monitor_interval / 1000.) + "s). " +
 									"Please increase your monitor interval or reduce usage of variables. " +
 									"(this warning will be repeated at most once every " + WARING_INTERVAL + " seconds)");
-							lastWarning = now;
 						}
 						while (System.currentTimeMillis() < next) {
 							try {
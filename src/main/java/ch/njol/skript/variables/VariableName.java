@@ -0,0 +1,93 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.variables;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.lang.Variable;
+
+/**
+ * The lower case name of a variable, together with its parts split at {@link Variable#SEPARATOR}.
+ * <p>
+ * The parts are only determined when the variables map needs them, i.e. for list variables and for changing variables, and are then kept, which
+ * makes instances for constant names (see {@link ch.njol.skript.lang.VariableString#toVariableName(org.bukkit.event.Event)}) free to use
+ * repeatedly.
+ */
+public final class VariableName {
+	
+	private final String name;
+	
+	@Nullable
+	private volatile String[] path;
+	
+	/**
+	 * @param name The variable's name, must already be lower case.
+	 */
+	public VariableName(final String name) {
+		this.name = name;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public boolean isList() {
+		return name.endsWith("*");
+	}
+	
+	/**
+	 * @return The parts of this name as {@link Variables#splitVariableName(String)} would return them. Must not be modified.
+	 */
+	public String[] getPath() {
+		String[] path = this.path;
+		if (path == null)
+			this.path = path = split(name);
+		return path;
+	}
+	
+	@SuppressWarnings("null")
+	final static String[] split(final String name) {
+		int i = name.indexOf(Variable.SEPARATOR);
+		if (i == -1)
+			return new String[] {name};
+		final List<String> parts = new ArrayList<String>(4);
+		int start = 0;
+		do {
+			parts.add(name.substring(start, i));
+			start = i + Variable.SEPARATOR.length();
+			i = name.indexOf(Variable.SEPARATOR, start);
+		} while (i != -1);
+		parts.add(name.substring(start));
+		// like Pattern.split, trailing empty parts are removed
+		int size = parts.size();
+		while (size > 0 && parts.get(size - 1).isEmpty())
+			size--;
+		return parts.subList(0, size).toArray(new String[size]);
+	}
+	
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
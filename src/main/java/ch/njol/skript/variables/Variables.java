@@ -32,7 +32,6 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.regex.Pattern;
 
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.serialization.ConfigurationSerializable;
@@ -49,7 +48,9 @@ import ch.njol.skript.classes.ConfigurationSerializer;
 import ch.njol.skript.config.Config;
 import ch.njol.skript.config.Node;
 import ch.njol.skript.config.SectionNode;
-import ch.njol.skript.lang.Variable;
+import ch.njol.skript.metrics.Counter;
+import ch.njol.skript.metrics.Gauge;
+import ch.njol.skript.metrics.MetricsRegistry;
 import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.registrations.Converters;
 import ch.njol.skript.variables.DatabaseStorage.Type;
@@ -224,12 +225,8 @@ public abstract class Variables {
 		return true;
 	}
 	
-	@SuppressWarnings("null")
-	private final static Pattern variableNameSplitPattern = Pattern.compile(Pattern.quote(Variable.SEPARATOR));
-	
-	@SuppressWarnings("null")
 	public final static String[] splitVariableName(final String name) {
-		return variableNameSplitPattern.split(name);
+		return VariableName.split(name);
 	}
 	
 	private final static ReadWriteLock variablesLock = new ReentrantReadWriteLock(true);
@@ -242,6 +239,25 @@ public abstract class Variables {
 	 */
 	private final static WeakHashMap<Event, VariablesMap> localVariables = new WeakHashMap<Event, VariablesMap>();
 	
+	private final static Counter globalReads = MetricsRegistry.counter("skript_variable_reads_total", "Variable reads", "scope", "global"),
+			localReads = MetricsRegistry.counter("skript_variable_reads_total", "Variable reads", "scope", "local"),
+			globalWrites = MetricsRegistry.counter("skript_variable_writes_total", "Variable changes", "scope", "global"),
+			localWrites = MetricsRegistry.counter("skript_variable_writes_total", "Variable changes", "scope", "local");
+	static {
+		MetricsRegistry.register(new Gauge("skript_variables", "Global variables currently set") {
+			@Override
+			public double get() {
+				return numVariables();
+			}
+		});
+		MetricsRegistry.register(new Gauge("skript_variables_save_queue", "Variable changes waiting to be passed to a database") {
+			@Override
+			public double get() {
+				return queue.size();
+			}
+		});
+	}
+	
 	/**
 	 * Remember to lock with {@link #getReadLock()} and to not make any changes!
 	 */
@@ -272,12 +288,27 @@ public abstract class Variables {
 	 */
 	@Nullable
 	public final static Object getVariable(final String name, final @Nullable Event e, final boolean local) {
+		return getVariable(new VariableName(name), e, local);
+	}
+	
+	/**
+	 * Returns the internal value of the requested variable.
+	 * <p>
+	 * <b>Do not modify the returned value!</b>
+	 * 
+	 * @param name
+	 * @return an Object for a normal Variable or a Map<String, Object> for a list variable, or null if the variable is not set.
+	 */
+	@Nullable
+	public final static Object getVariable(final VariableName name, final @Nullable Event e, final boolean local) {
 		if (local) {
+			localReads.increment();
 			final VariablesMap map = localVariables.get(e);
 			if (map == null)
 				return null;
 			return map.getVariable(name);
 		} else {
+			globalReads.increment();
 			try {
 				variablesLock.readLock().lock();
 				return variables.getVariable(name);
@@ -293,9 +324,19 @@ public abstract class Variables {
 	 * @param name The variable's name. Can be a "list variable::*" (<tt>value</tt> must be <tt>null</tt> in this case)
 	 * @param value The variable's value. Use <tt>null</tt> to delete the variable.
 	 */
-	public final static void setVariable(final String name, @Nullable Object value, final @Nullable Event e, final boolean local) {
+	public final static void setVariable(final String name, final @Nullable Object value, final @Nullable Event e, final boolean local) {
+		setVariable(new VariableName(name), value, e, local);
+	}
+	
+	/**
+	 * Sets a variable.
+	 * 
+	 * @param name The variable's name. Can be a "list variable::*" (<tt>value</tt> must be <tt>null</tt> in this case)
+	 * @param value The variable's value. Use <tt>null</tt> to delete the variable.
+	 */
+	public final static void setVariable(final VariableName name, @Nullable Object value, final @Nullable Event e, final boolean local) {
 		if (value != null) {
-			assert !name.endsWith("::*");
+			assert !name.getName().endsWith("::*");
 			@SuppressWarnings("null")
 			final ClassInfo<?> ci = Classes.getSuperClassInfo(value.getClass());
 			final Class<?> sas = ci.getSerializeAs();
@@ -305,24 +346,30 @@ public abstract class Variables {
 			}
 		}
 		if (local) {
+			localWrites.increment();
 			assert e != null : name;
 			VariablesMap map = localVariables.get(e);
 			if (map == null)
 				localVariables.put(e, map = new VariablesMap());
 			map.setVariable(name, value);
 		} else {
+			globalWrites.increment();
 			setVariable(name, value);
 		}
 	}
 	
 	final static void setVariable(final String name, @Nullable final Object value) {
+		setVariable(new VariableName(name), value);
+	}
+	
+	final static void setVariable(final VariableName name, @Nullable final Object value) {
 		try {
 			variablesLock.writeLock().lock();
 			variables.setVariable(name, value);
 		} finally {
 			variablesLock.writeLock().unlock();
 		}
-		saveVariableChange(name, value);
+		saveVariableChange(name.getName(), value);
 	}
 	
 	/**
@@ -28,7 +28,6 @@ import java.util.TreeMap;
 import org.eclipse.jdt.annotation.Nullable;
 
 import ch.njol.skript.lang.Variable;
-import ch.njol.skript.util.Utils;
 import ch.njol.util.StringUtils;
 
 final class VariablesMap {
@@ -44,14 +43,19 @@ final class VariablesMap {
 			while (i < s1.length() && j < s2.length()) {
 				final char c1 = s1.charAt(i), c2 = s2.charAt(j);
 				if ('0' <= c1 && c1 <= '9' && '0' <= c2 && c2 <= '9') { // TODO negative numbers? what about {blah-%number%}? // '-' < '0'
+					// compares the numbers in place: leading zeroes are skipped, then the longer number is the larger one, and numbers of equal length compare like strings
+					while (i < s1.length() - 1 && s1.charAt(i) == '0' && isDigit(s1.charAt(i + 1)))
+						i++;
+					while (j < s2.length() - 1 && s2.charAt(j) == '0' && isDigit(s2.charAt(j + 1)))
+						j++;
 					final int i2 = StringUtils.findLastDigit(s1, i), j2 = StringUtils.findLastDigit(s2, j);
-					final long n1 = Utils.parseLong("" + s1.substring(i, i2)), n2 = Utils.parseLong("" + s2.substring(j, j2));
-					if (n1 > n2)
-						return 1;
-					if (n1 < n2)
-						return -1;
-					i = i2;
-					j = j2;
+					if (i2 - i != j2 - j)
+						return i2 - i > j2 - j ? 1 : -1;
+					for (; i < i2; i++, j++) {
+						final char d1 = s1.charAt(i), d2 = s2.charAt(j);
+						if (d1 != d2)
+							return d1 > d2 ? 1 : -1;
+					}
 					continue;
 				} else {
 					if (c1 > c2)
@@ -68,6 +72,10 @@ final class VariablesMap {
 				return 1;
 			return 0;
 		}
+		
+		private boolean isDigit(final char c) {
+			return '0' <= c && c <= '9';
+		}
 	};
 	
 	final HashMap<String, Object> hashMap = new HashMap<String, Object>();
@@ -81,13 +89,26 @@ final class VariablesMap {
 	 * @param name
 	 * @return an Object for a normal Variable or a Map<String, Object> for a list variable, or null if the variable is not set.
 	 */
-	@SuppressWarnings("unchecked")
 	@Nullable
 	final Object getVariable(final String name) {
-		if (!name.endsWith("*")) {
-			return hashMap.get(name);
+		return getVariable(new VariableName(name));
+	}
+	
+	/**
+	 * Returns the internal value of the requested variable.
+	 * <p>
+	 * <b>Do not modify the returned value!</b>
+	 * 
+	 * @param name
+	 * @return an Object for a normal Variable or a Map<String, Object> for a list variable, or null if the variable is not set.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	final Object getVariable(final VariableName name) {
+		if (!name.isList()) {
+			return hashMap.get(name.getName());
 		} else {
-			final String[] split = Variables.splitVariableName(name);
+			final String[] split = name.getPath();
 			Map<String, Object> current = treeMap;
 			for (int i = 0; i < split.length; i++) {
 				final String n = split[i];
@@ -116,15 +137,25 @@ final class VariablesMap {
 	 * @param name The variable's name. Can be a "list variable::*" (<tt>value</tt> must be <tt>null</tt> in this case)
 	 * @param value The variable's value. Use <tt>null</tt> to delete the variable.
 	 */
-	@SuppressWarnings("unchecked")
 	final void setVariable(final String name, final @Nullable Object value) {
-		if (!name.endsWith("*")) {
+		setVariable(new VariableName(name), value);
+	}
+	
+	/**
+	 * Sets a variable.
+	 * 
+	 * @param name The variable's name. Can be a "list variable::*" (<tt>value</tt> must be <tt>null</tt> in this case)
+	 * @param value The variable's value. Use <tt>null</tt> to delete the variable.
+	 */
+	@SuppressWarnings("unchecked")
+	final void setVariable(final VariableName name, final @Nullable Object value) {
+		if (!name.isList()) {
 			if (value == null)
-				hashMap.remove(name);
+				hashMap.remove(name.getName());
 			else
-				hashMap.put(name, value);
+				hashMap.put(name.getName(), value);
 		}
-		final String[] split = Variables.splitVariableName(name);
+		final String[] split = name.getPath();
 		TreeMap<String, Object> parent = treeMap;
 		for (int i = 0; i < split.length; i++) {
 			final String n = split[i];
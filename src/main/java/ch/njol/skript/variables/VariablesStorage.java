@@ -22,6 +22,7 @@ package ch.njol.skript.variables;
 import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -30,8 +31,12 @@ import org.eclipse.jdt.annotation.Nullable;
 import ch.njol.skript.Skript;
 import ch.njol.skript.config.SectionNode;
 import ch.njol.skript.lang.ParseContext;
+import ch.njol.skript.log.LogLimiter;
 import ch.njol.skript.log.ParseLogHandler;
 import ch.njol.skript.log.SkriptLogger;
+import ch.njol.skript.metrics.Gauge;
+import ch.njol.skript.metrics.Histogram;
+import ch.njol.skript.metrics.MetricsRegistry;
 import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.util.FileUtils;
 import ch.njol.skript.util.Task;
@@ -66,8 +71,18 @@ public abstract class VariablesStorage implements Closeable {
 	// created in the constructor, started in load()
 	private final Thread writeThread;
 	
+	private final Gauge queueSize;
+	private final Histogram saveTime;
+	
 	protected VariablesStorage(final String name) {
 		databaseName = name;
+		queueSize = MetricsRegistry.register(new Gauge("skript_storage_queue", "Variable changes waiting to be saved", "database", name) {
+			@Override
+			public double get() {
+				return changesQueue.size();
+			}
+		});
+		saveTime = MetricsRegistry.histogram("skript_storage_save_seconds", "Time taken to save a variable", Histogram.LATENCY_BUCKETS, "database", name);
 		writeThread = Skript.newThread(new Runnable() {
 			@Override
 			public void run() {
@@ -75,10 +90,12 @@ public abstract class VariablesStorage implements Closeable {
 					try {
 						final SerializedVariable var = changesQueue.take();
 						final Value d = var.value;
+						final long start = System.nanoTime();
 						if (d != null)
 							save(var.name, d.type, d.data);
 						else
 							save(var.name, null, null);
+						saveTime.observeNanos(System.nanoTime() - start);
 					} catch (final InterruptedException e) {}
 				}
 			}
@@ -235,24 +252,18 @@ public abstract class VariablesStorage implements Closeable {
 		return variablePattern != null ? variablePattern.matcher(var).matches() : true;
 	}
 	
-	private long lastWarning = Long.MIN_VALUE;
 	private final static int WARNING_INTERVAL = 10;
-	private long lastError = Long.MIN_VALUE;
-	private final static int ERROR_INTERVAL = 10;
+	private final LogLimiter warnings = new LogLimiter(WARNING_INTERVAL, TimeUnit.SECONDS);
+	private final LogLimiter errors = new LogLimiter(10, TimeUnit.SECONDS);
 	
 	/**
 	 * May be called from a different thread than Bukkit's main thread.
 	 */
 	final void save(final SerializedVariable var) {
-		if (changesQueue.size() > FIRST_WARNING && lastWarning < System.currentTimeMillis() - WARNING_INTERVAL * 1000) {
-			Skript.warning("Cannot write variables to the database '" + databaseName + "' at sufficient speed; server performance may suffer and many variables will be lost if the server crashes. (this warning will be repeated at most once every " + WARNING_INTERVAL + " seconds)");
-			lastWarning = System.currentTimeMillis();
-		}
+		if (changesQueue.size() > FIRST_WARNING)
+			warnings.warning("Cannot write variables to the database '" + databaseName + "' at sufficient speed; server performance may suffer and many variables will be lost if the server crashes. (this warning will be repeated at most once every " + WARNING_INTERVAL + " seconds)");
 		if (!changesQueue.offer(var)) {
-			if (lastError < System.currentTimeMillis() - ERROR_INTERVAL * 1000) {
-				Skript.error("Skript cannot save any variables to the database '" + databaseName + "'. The server will hang and may crash if no more variables can be saved.");
-				lastError = System.currentTimeMillis();
-			}
+			errors.error("Skript cannot save any variables to the database '" + databaseName + "'. The server will hang and may crash if no more variables can be saved.");
 			while (true) {
 				try {
 					// REMIND add repetitive error and/or stop saving variables altogether?
@@ -276,6 +287,7 @@ public abstract class VariablesStorage implements Closeable {
 		}
 		closed = true;
 		writeThread.interrupt();
+		MetricsRegistry.unregister(queueSize);
 	}
 	
 	/**
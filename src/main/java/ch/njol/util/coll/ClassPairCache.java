@@ -0,0 +1,91 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.util.coll;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A cache for values that are computed from a pair of classes, e.g. converters or comparators.
+ * <p>
+ * Values are stored per first class in a {@link ClassValue}, and per second class in a small identity map that is copied on write. Lookups of cached values thus neither
+ * allocate nor lock, and may be done from any thread.
+ * 
+ * @param <V> The type of the cached values
+ */
+public abstract class ClassPairCache<V> {
+	
+	/**
+	 * Marks a cached null value.
+	 */
+	private final static Object NULL = new Object();
+	
+	private final static class Row {
+		volatile Map<Class<?>, Object> values = new IdentityHashMap<>(4);
+	}
+	
+	private volatile ClassValue<Row> rows = newRows();
+	
+	private final static ClassValue<Row> newRows() {
+		return new ClassValue<Row>() {
+			@Override
+			protected Row computeValue(final @Nullable Class<?> c) {
+				return new Row();
+			}
+		};
+	}
+	
+	/**
+	 * Computes the value for a pair of classes that is not cached yet. This may be called multiple times for the same pair if multiple threads request it at the same time.
+	 * 
+	 * @param first
+	 * @param second
+	 * @return The value, which may be null
+	 */
+	@Nullable
+	protected abstract V compute(Class<?> first, Class<?> second);
+	
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public final V get(final Class<?> first, final Class<?> second) {
+		final Row row = rows.get(first);
+		Object v = row.values.get(second);
+		if (v == null) {
+			final V computed = compute(first, second);
+			v = computed == null ? NULL : computed;
+			synchronized (row) {
+				final Map<Class<?>, Object> values = new IdentityHashMap<>(row.values);
+				values.put(second, v);
+				row.values = values;
+			}
+		}
+		return v == NULL ? null : (V) v;
+	}
+	
+	/**
+	 * Removes all cached values, e.g. after the values they're computed from have changed.
+	 */
+	public final void clear() {
+		rows = newRows();
+	}
+	
+}
@@ -0,0 +1,168 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript;
+
+import static org.easymock.EasyMock.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginLoader;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.objenesis.ObjenesisHelper;
+
+import ch.njol.skript.classes.data.BukkitClasses;
+import ch.njol.skript.classes.data.BukkitEventValues;
+import ch.njol.skript.classes.data.DefaultComparators;
+import ch.njol.skript.classes.data.DefaultConverters;
+import ch.njol.skript.classes.data.DefaultFunctions;
+import ch.njol.skript.classes.data.JavaClasses;
+import ch.njol.skript.classes.data.SkriptClasses;
+import ch.njol.skript.localization.Language;
+import ch.njol.skript.log.SkriptLogger;
+import ch.njol.skript.util.Version;
+
+/**
+ * Boots Skript without a Minecraft server, for benchmarks and tests that need Skript's types and syntax elements.
+ * <p>
+ * Bukkit's server is replaced by a mock that returns default values for everything it isn't told about, and the plugin is initialised the
+ * same way {@link ch.njol.skript.registrations.ClassesTest} does it. This requires Skript to be built: the jar is read from the system
+ * property <tt>skript.jar</tt> (default <tt>build/libs/Skript.jar</tt>), and the plugin.yml and language files from
+ * <tt>build/resources/main</tt>.
+ */
+public final class HeadlessSkript {
+	
+	private HeadlessSkript() {}
+	
+	private static boolean booted = false;
+	
+	/**
+	 * Registers Skript's types, syntax elements and functions, and stops accepting registrations. Does nothing if Skript has already been
+	 * booted.
+	 */
+	@SuppressWarnings({"resource", "unchecked", "rawtypes", "null"})
+	public static synchronized void boot() throws Exception {
+		if (booted)
+			return;
+		
+		final File dataDir = new File("build/resources/main/");
+		final File jar = new File(System.getProperty("skript.jar", "build/libs/Skript.jar"));
+		if (!jar.exists())
+			throw new IllegalStateException("Skript has to be built before it can be booted headlessly: " + jar + " does not exist");
+		
+		final Logger l = Logger.getLogger(HeadlessSkript.class.getCanonicalName());
+		l.setParent(SkriptLogger.LOGGER);
+		l.setLevel(Level.WARNING);
+		
+		final BukkitScheduler scheduler = createNiceMock(BukkitScheduler.class);
+		final PluginManager pluginManager = createNiceMock(PluginManager.class);
+		final ConsoleCommandSender console = createNiceMock(ConsoleCommandSender.class); // discards messages, e.g. of 'broadcast'
+		expect(console.getName()).andReturn("CONSOLE").anyTimes();
+		final Server s = createNiceMock(Server.class);
+		expect(s.getLogger()).andReturn(l).anyTimes();
+		expect(s.isPrimaryThread()).andReturn(true).anyTimes();
+		expect(s.getName()).andReturn("Headless").anyTimes();
+		expect(s.getVersion()).andReturn("headless (MC: 1.12.1)").anyTimes();
+		expect(s.getBukkitVersion()).andReturn("1.12.1-R0.1-SNAPSHOT").anyTimes();
+		expect(s.getScheduler()).andReturn(scheduler).anyTimes();
+		expect(s.getPluginManager()).andReturn(pluginManager).anyTimes();
+		expect(s.getConsoleSender()).andReturn(console).anyTimes();
+		expect((Object) s.getOnlinePlayers()).andReturn(Collections.emptyList()).anyTimes();
+		expect(s.getWorlds()).andReturn(Collections.EMPTY_LIST).anyTimes();
+		replay(scheduler, pluginManager, console, s);
+		
+		Bukkit.setServer(s);
+		
+		final Skript skript = (Skript) ObjenesisHelper.newInstance(Skript.class); // bypass the class loader check
+		set("instance", skript);
+		
+		final PluginDescriptionFile pdf;
+		try (final InputStream in = new FileInputStream(new File(dataDir, "plugin.yml"))) {
+			pdf = new PluginDescriptionFile(in);
+		}
+		set("version", new Version("" + pdf.getVersion()));
+		
+		final Method init = JavaPlugin.class.getDeclaredMethod("init", PluginLoader.class, Server.class, PluginDescriptionFile.class, File.class, File.class, ClassLoader.class);
+		init.setAccessible(true);
+		init.invoke(skript, new JavaPluginLoader(s), s, pdf, dataDir, jar, HeadlessSkript.class.getClassLoader());
+		
+		Language.loadDefault(Skript.getAddonInstance());
+		
+		new JavaClasses();
+		new BukkitClasses();
+		new BukkitEventValues();
+		new SkriptClasses();
+		
+		new DefaultComparators();
+		new DefaultConverters();
+		new DefaultFunctions();
+		
+		Skript.getAddonInstance().loadClasses("ch.njol.skript", "conditions", "effects", "events", "expressions", "entity");
+		
+		final Method stop = Skript.class.getDeclaredMethod("stopAcceptingRegistrations");
+		stop.setAccessible(true);
+		stop.invoke(null);
+		
+		booted = true;
+	}
+	
+	/**
+	 * Creates a player that is online in the given world. Messages sent to it, including JSON messages, are discarded.
+	 */
+	public static Player mockPlayer(final World world, final String name, final UUID uuid) {
+		final Player.Spigot spigot = createNiceMock(Player.Spigot.class);
+		final Player p = createNiceMock(Player.class);
+		final Location l = new Location(world, 0.5, 64, 0.5);
+		expect(p.getName()).andReturn(name).anyTimes();
+		expect(p.getDisplayName()).andReturn(name).anyTimes();
+		expect(p.getUniqueId()).andReturn(uuid).anyTimes();
+		expect(p.getWorld()).andReturn(world).anyTimes();
+		expect(p.getLocation()).andReturn(l).anyTimes();
+		expect(p.isOnline()).andReturn(true).anyTimes();
+		expect(p.hasPlayedBefore()).andReturn(true).anyTimes();
+		expect(p.spigot()).andReturn(spigot).anyTimes();
+		replay(spigot, p);
+		return p;
+	}
+	
+	private static void set(final String field, final Object value) throws ReflectiveOperationException {
+		final Field f = Skript.class.getDeclaredField(field);
+		f.setAccessible(true);
+		f.set(null, value);
+	}
+	
+}
@@ -0,0 +1,227 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript;
+
+import static org.easymock.EasyMock.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.eclipse.jdt.annotation.Nullable;
+
+import ch.njol.skript.config.Config;
+import ch.njol.skript.log.CountingLogHandler;
+import ch.njol.skript.log.SkriptLogger;
+
+/**
+ * Load-tests scripts without a server: boots Skript with {@link HeadlessSkript}, loads the given scripts and fires synthetic events at
+ * them through {@link SkriptEventHandler#check(Event)}, then reports throughput, trigger latency and allocation per event. Fails if the
+ * scripts log any errors while they run, as the measurements would be meaningless then.
+ * <p>
+ * Usage: <tt>ScriptHarness [-event join|chat] [-rate events/s] [-count n] [-warmup n] script.sk...</tt>. A rate of 0 (the default)
+ * fires events as fast as possible. Run it through <tt>gradle harness -Pharness.args="..."</tt>.
+ */
+public final class ScriptHarness {
+	
+	private ScriptHarness() {}
+	
+	/**
+	 * Creates the synthetic events fired at the scripts.
+	 */
+	private static abstract class EventFactory {
+		abstract Event create(int i);
+	}
+	
+	@SuppressWarnings("null")
+	private static World world;
+	@SuppressWarnings("null")
+	private static Player player;
+	
+	private static void mockWorld() {
+		world = createNiceMock(World.class);
+		expect(world.getName()).andReturn("world").anyTimes();
+		expect(world.getUID()).andReturn(new UUID(0, 1)).anyTimes();
+		
+		replay(world);
+		
+		player = HeadlessSkript.mockPlayer(world, "Harness", new UUID(0, 2));
+	}
+	
+	/**
+	 * Counts errors logged through Skript's log handlers and exceptions reported by {@link Skript#exception(Throwable, String...)}, which
+	 * are written to the logger directly.
+	 */
+	private final static class ErrorCounter extends Handler {
+		
+		final AtomicInteger severe = new AtomicInteger();
+		
+		ErrorCounter() {}
+		
+		@Override
+		public void publish(final @Nullable LogRecord record) {
+			if (record != null && record.getLevel().intValue() >= Level.SEVERE.intValue())
+				severe.incrementAndGet();
+		}
+		
+		@Override
+		public void flush() {}
+		
+		@Override
+		public void close() {}
+		
+	}
+	
+	private static void checkErrors(final CountingLogHandler errors, final ErrorCounter exceptions, final String phase) {
+		if (errors.getCount() == 0 && exceptions.severe.get() == 0)
+			return;
+		System.err.println("The scripts logged " + errors.getCount() + " errors and " + exceptions.severe.get() + " severe messages " + phase
+				+ ", see above. Fix them before measuring the scripts.");
+		System.exit(1);
+	}
+	
+	@Nullable
+	private static EventFactory getEventFactory(final String name) {
+		switch (name) {
+			case "join":
+				return new EventFactory() {
+					@Override
+					Event create(final int i) {
+						return new PlayerJoinEvent(player, "Harness joined the game");
+					}
+				};
+			case "chat":
+				return new EventFactory() {
+					@Override
+					Event create(final int i) {
+						return new AsyncPlayerChatEvent(false, player, "message #" + i, new HashSet<Player>());
+					}
+				};
+			default:
+				return null;
+		}
+	}
+	
+	public static void main(final String[] args) throws Exception {
+		String eventName = "join";
+		double rate = 0;
+		int count = 100000, warmup = 10000;
+		final List<File> scripts = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-event") && i + 1 < args.length)
+				eventName = args[++i];
+			else if (args[i].equals("-rate") && i + 1 < args.length)
+				rate = Double.parseDouble(args[++i]);
+			else if (args[i].equals("-count") && i + 1 < args.length)
+				count = Integer.parseInt(args[++i]);
+			else if (args[i].equals("-warmup") && i + 1 < args.length)
+				warmup = Integer.parseInt(args[++i]);
+			else
+				scripts.add(new File(args[i]));
+		}
+		final EventFactory factory = getEventFactory(eventName);
+		if (factory == null || scripts.isEmpty() || count <= 0) {
+			System.err.println("Usage: ScriptHarness [-event join|chat] [-rate events/s] [-count n] [-warmup n] script.sk...");
+			System.exit(2);
+			return;
+		}
+		
+		HeadlessSkript.boot();
+		mockWorld();
+		
+		final List<Config> configs = new ArrayList<>();
+		for (final File f : scripts) {
+			try (final InputStream in = new FileInputStream(f)) {
+				final Config c = ScriptLoader.loadStructure(in, f.getName());
+				if (c != null)
+					configs.add(c);
+			}
+		}
+		final ScriptLoader.ScriptInfo info = ScriptLoader.loadScripts(configs);
+		System.out.println("Loaded " + info.files + " scripts with " + info.triggers + " triggers and " + info.functions + " functions");
+		
+		final Event first = factory.create(0);
+		if (!SkriptEventHandler.getTriggers(first.getClass()).hasNext()) {
+			System.err.println("No trigger listens to the '" + eventName + "' event (" + first.getClass().getSimpleName() + ")");
+			System.exit(1);
+			return;
+		}
+		
+		final CountingLogHandler errors = SkriptLogger.startLogHandler(new CountingLogHandler(Level.SEVERE));
+		final ErrorCounter exceptions = new ErrorCounter();
+		SkriptLogger.LOGGER.addHandler(exceptions);
+		
+		for (int i = 0; i < warmup; i++)
+			SkriptEventHandler.check(factory.create(i));
+		checkErrors(errors, exceptions, "during the warmup");
+		
+		final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long thread = Thread.currentThread().getId();
+		final long interval = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+		final long[] latencies = new long[count];
+		
+		final long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+		final long start = System.nanoTime();
+		long next = start;
+		for (int i = 0; i < count; i++) {
+			if (interval > 0) {
+				next += interval;
+				long wait;
+				while ((wait = next - System.nanoTime()) > 0)
+					LockSupport.parkNanos(wait);
+			}
+			final Event e = factory.create(i);
+			final long s = System.nanoTime();
+			SkriptEventHandler.check(e);
+			latencies[i] = System.nanoTime() - s;
+		}
+		final long elapsed = System.nanoTime() - start;
+		final long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+		checkErrors(errors, exceptions, "while being measured");
+		errors.stop();
+		
+		Arrays.sort(latencies);
+		System.out.println(String.format(Locale.ENGLISH, "%d '%s' events in %.3f s: %.1f events/s", count, eventName, elapsed / 1e9, count * 1e9 / elapsed));
+		System.out.println(String.format(Locale.ENGLISH, "latency p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+				latencies[count / 2] / 1e6, latencies[(int) (count * 0.99)] / 1e6, latencies[count - 1] / 1e6));
+		System.out.println(String.format(Locale.ENGLISH, "allocated %.0f bytes per event", 1. * allocated / count));
+		
+		System.exit(0);
+	}
+	
+}
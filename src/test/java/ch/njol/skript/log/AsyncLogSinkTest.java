@@ -0,0 +1,75 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.log;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.Test;
+
+public class AsyncLogSinkTest {
+	
+	@Test
+	public void testErrorsAfterBufferedMessages() {
+		final List<String> written = new ArrayList<>();
+		final Logger logger = Logger.getAnonymousLogger();
+		logger.setUseParentHandlers(false);
+		logger.addHandler(new Handler() {
+			@Override
+			public void publish(final @Nullable LogRecord record) {
+				assert record != null;
+				synchronized (written) {
+					written.add(record.getMessage());
+				}
+			}
+			
+			@Override
+			public void flush() {}
+			
+			@Override
+			public void close() {}
+		});
+		
+		final AsyncLogSink sink = new AsyncLogSink(logger, 1000);
+		final List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			sink.log(Level.INFO, "info " + i);
+			expected.add("info " + i);
+		}
+		sink.log(Level.SEVERE, "error");
+		expected.add("error");
+		synchronized (written) {
+			assertEquals(expected, written); // the error is written synchronously, so everything before it must have been written as well
+		}
+		
+		sink.log(Level.INFO, "after");
+		sink.close();
+		expected.add("after");
+		assertEquals(expected, written);
+	}
+	
+}
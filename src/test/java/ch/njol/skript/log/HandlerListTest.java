@@ -0,0 +1,78 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.log;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+public class HandlerListTest {
+	
+	private static LogHandler handler() {
+		return new LogHandler() {
+			@Override
+			public LogResult log(final LogEntry entry) {
+				return LogResult.LOG;
+			}
+		};
+	}
+	
+	@Test
+	public void testStack() {
+		final HandlerList l = new HandlerList();
+		final LogHandler a = handler(), b = handler(), c = handler();
+		l.add(a);
+		l.add(b);
+		l.add(c);
+		
+		final Iterator<LogHandler> iter = l.iterator();
+		assertSame(c, iter.next());
+		assertSame(b, iter.next());
+		assertSame(a, iter.next());
+		assertFalse(iter.hasNext());
+		
+		assertEquals(0, l.remove(c));
+		assertFalse(l.contains(c));
+		assertEquals(-1, l.remove(c));
+		
+		l.add(c);
+		assertEquals(2, l.remove(a)); // b and c were not stopped
+		assertFalse(l.contains(a) || l.contains(b) || l.contains(c));
+		assertFalse(l.iterator().hasNext());
+	}
+	
+	@Test
+	public void testCopy() {
+		final HandlerList l = new HandlerList();
+		final LogHandler a = handler(), b = handler();
+		l.add(a);
+		final HandlerList copy = new HandlerList(l);
+		copy.add(b);
+		assertTrue(l.contains(a));
+		assertFalse(copy.contains(a));
+		assertTrue(copy.contains(b));
+		assertEquals(0, copy.remove(b));
+		assertTrue(copy.iterator().hasNext());
+		assertEquals(0, l.remove(a));
+	}
+	
+}
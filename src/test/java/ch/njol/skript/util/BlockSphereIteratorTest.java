@@ -0,0 +1,149 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.util;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.easymock.IAnswer;
+import org.junit.Test;
+
+import ch.njol.skript.Skript;
+
+/**
+ * Compares the chunk-wise sphere iteration with checking the distance of every block in the sphere's bounding box.
+ */
+public class BlockSphereIteratorTest {
+	
+	private final static int MAX_HEIGHT = 256;
+	
+	private static Block block(final int x, final int y, final int z) {
+		final Block b = createNiceMock(Block.class);
+		expect(b.getX()).andReturn(x).anyTimes();
+		expect(b.getY()).andReturn(y).anyTimes();
+		expect(b.getZ()).andReturn(z).anyTimes();
+		replay(b);
+		return b;
+	}
+	
+	private static Chunk chunk(final int chunkX, final int chunkZ) {
+		final Chunk c = createNiceMock(Chunk.class);
+		expect(c.getX()).andReturn(chunkX).anyTimes();
+		expect(c.getZ()).andReturn(chunkZ).anyTimes();
+		expect(c.getBlock(anyInt(), anyInt(), anyInt())).andAnswer(new IAnswer<Block>() {
+			@Override
+			public Block answer() {
+				final Object[] args = getCurrentArguments();
+				final int x = (Integer) args[0], y = (Integer) args[1], z = (Integer) args[2];
+				assertTrue("x " + x, x >= 0 && x < 16);
+				assertTrue("z " + z, z >= 0 && z < 16);
+				assertTrue("y " + y, y >= 0 && y < MAX_HEIGHT);
+				return block((chunkX << 4) + x, y, (chunkZ << 4) + z);
+			}
+		}).anyTimes();
+		replay(c);
+		return c;
+	}
+	
+	private static World world() {
+		final World w = createNiceMock(World.class);
+		expect(w.getMaxHeight()).andReturn(MAX_HEIGHT).anyTimes();
+		expect(w.getChunkAt(anyInt(), anyInt())).andAnswer(new IAnswer<Chunk>() {
+			@Override
+			public Chunk answer() {
+				final Object[] args = getCurrentArguments();
+				return chunk((Integer) args[0], (Integer) args[1]);
+			}
+		}).anyTimes();
+		replay(w);
+		return w;
+	}
+	
+	private static void check(final double cx, final double cy, final double cz, final double radius) {
+		final World w = world();
+		final Set<String> expected = new HashSet<>();
+		final double rSquared = radius * radius * Skript.EPSILON_MULT;
+		for (int x = (int) Math.floor(cx - radius) - 2; x <= Math.ceil(cx + radius) + 2; x++) {
+			for (int y = 0; y < MAX_HEIGHT; y++) {
+				for (int z = (int) Math.floor(cz - radius) - 2; z <= Math.ceil(cz + radius) + 2; z++) {
+					final double dx = x + 0.5 - cx, dy = y + 0.5 - cy, dz = z + 0.5 - cz;
+					if (dx * dx + dy * dy + dz * dz < rSquared)
+						expected.add(x + "," + y + "," + z);
+				}
+			}
+		}
+		
+		final Set<String> actual = new HashSet<>();
+		final BlockSphereIterator iter = new BlockSphereIterator(new Location(w, cx, cy, cz), radius);
+		while (iter.hasNext()) {
+			final Block b = iter.next();
+			assertTrue("duplicate block " + b.getX() + "," + b.getY() + "," + b.getZ(), actual.add(b.getX() + "," + b.getY() + "," + b.getZ()));
+		}
+		assertEquals("sphere around " + cx + "," + cy + "," + cz + " with radius " + radius, expected, actual);
+	}
+	
+	@Test
+	public void testCentres() {
+		check(0.5, 64.5, 0.5, 5);
+		check(0, 64, 0, 5);
+		check(0.5, 64.5, 0.5, 3);
+	}
+	
+	@Test
+	public void testFractionalAndNegative() {
+		check(-0.3, 70.2, -17.9, 7.3);
+		check(-100.25, 30.75, 33.5, 12.5);
+		check(-1e-9, 64, -1e-9, 6);
+	}
+	
+	@Test
+	public void testChunkBorders() {
+		check(15.5, 64, 15.5, 4);
+		check(16, 64, -16, 10);
+		check(-16, 64, 32, 12);
+	}
+	
+	@Test
+	public void testSmallRadii() {
+		check(3.2, 64, 8.1, 0);
+		check(5, 64, 5, 0.4);
+		check(0.5, 64.5, 0.5, 0.6);
+	}
+	
+	@Test
+	public void testHeightClamps() {
+		check(8, 0, 8, 3);
+		check(8, 2, 8, 6);
+		check(8, 253, 8, 6);
+		check(8, 255.9, 8, 3);
+		check(8, -5, 8, 4);
+		check(8, -1, 8, 4);
+		check(8, MAX_HEIGHT + 1, 8, 4);
+		check(8, MAX_HEIGHT + 5, 8, 4);
+	}
+	
+}
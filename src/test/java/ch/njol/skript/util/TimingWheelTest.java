@@ -0,0 +1,84 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimingWheelTest {
+	
+	private final static class Recorder {
+		final List<String> runs = new ArrayList<>();
+		int tick = 0;
+		
+		Runnable task(final String name) {
+			return new Runnable() {
+				@Override
+				public void run() {
+					runs.add(name + "@" + tick);
+				}
+			};
+		}
+	}
+	
+	private static void advance(final TimingWheel wheel, final Recorder r, final int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			r.tick++;
+			wheel.tick();
+		}
+	}
+	
+	@Test
+	public void testDelays() {
+		final TimingWheel wheel = new TimingWheel(8, false);
+		final Recorder r = new Recorder();
+		wheel.schedule(r.task("a"), 3);
+		wheel.schedule(r.task("b"), 0);
+		wheel.schedule(r.task("c"), 8);
+		wheel.schedule(r.task("d"), 20);
+		wheel.schedule(r.task("e"), 3);
+		assertEquals(5, wheel.getPending());
+		advance(wheel, r, 25);
+		assertEquals(Arrays.asList("b@1", "a@3", "e@3", "c@8", "d@20"), r.runs);
+		assertEquals(0, wheel.getPending());
+	}
+	
+	@Test
+	public void testRepeatingAndCancel() {
+		final TimingWheel wheel = new TimingWheel(4, false);
+		final Recorder r = new Recorder();
+		final TimingWheel.Entry repeating = wheel.schedule(r.task("r"), 2, 5);
+		final TimingWheel.Entry cancelled = wheel.schedule(r.task("x"), 6);
+		advance(wheel, r, 3);
+		cancelled.cancel();
+		assertFalse(cancelled.isScheduled());
+		advance(wheel, r, 10);
+		repeating.cancel();
+		advance(wheel, r, 10);
+		assertEquals(Arrays.asList("r@2", "r@7", "r@12"), r.runs);
+		assertEquals(0, wheel.getPending());
+	}
+	
+}
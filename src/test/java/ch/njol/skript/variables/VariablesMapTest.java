@@ -0,0 +1,43 @@
+/**
+ *   This file is part of Skript.
+ *
+ *  Skript is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Skript is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Skript.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Copyright 2011-2017 Peter Güttinger and contributors
+ */
+package ch.njol.skript.variables;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class VariablesMapTest {
+	
+	@Test
+	public void testVariableNameComparator() {
+		final String[] ordered = {"0", "1", "2", "9", "10", "11", "99", "100", "99999999999999999999", "100000000000000000000", "a1", "a2", "a10b", "a10c", "a11", "b"};
+		for (int i = 0; i < ordered.length; i++) {
+			for (int j = 0; j < ordered.length; j++) {
+				final int c = VariablesMap.variableNameComparator.compare(ordered[i], ordered[j]);
+				assertEquals(ordered[i] + " <=> " + ordered[j], Integer.signum(Integer.compare(i, j)), Integer.signum(c));
+			}
+		}
+		// leading zeroes are ignored
+		assertEquals(0, VariablesMap.variableNameComparator.compare("a007b", "a7b"));
+		assertTrue(VariablesMap.variableNameComparator.compare("a007", "a10") < 0);
+		assertTrue(VariablesMap.variableNameComparator.compare("00", "1") < 0);
+	}
+	
+}